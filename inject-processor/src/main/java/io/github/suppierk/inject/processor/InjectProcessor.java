@@ -0,0 +1,655 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates a {@code ClassIndex} per package, describing classes which use {@code Inject}, {@code
+ * Provides} or {@code Singleton} annotations.
+ *
+ * <p>Descriptors mirror what the injector discovers through reflection: the injectable constructor,
+ * injectable fields and provider methods which are not overridden. Constructors and methods
+ * accessible from the generated class also get compiled invokers.
+ *
+ * <p>Classes which cannot be referenced from the generated class, like private or inner classes,
+ * are skipped and left to reflection. So are classes the injector would reject, so that it reports
+ * the same errors as without the index.
+ */
+@SupportedAnnotationTypes({
+  InjectProcessor.INJECT,
+  InjectProcessor.PROVIDES,
+  InjectProcessor.SINGLETON
+})
+public final class InjectProcessor extends AbstractProcessor {
+  static final String INJECT = "jakarta.inject.Inject";
+  static final String PROVIDES = "io.github.suppierk.inject.Provides";
+  static final String SINGLETON = "jakarta.inject.Singleton";
+
+  static final String INDEX_PREFIX = "InjectIndex_";
+  static final String SERVICE_FILE = "META-INF/services/io.github.suppierk.inject.spi.ClassIndex";
+
+  private static final String SPI_PACKAGE = "io.github.suppierk.inject.spi.";
+  private static final String OBJECT = "java.lang.Object";
+
+  private final Set<String> generatedIndexes;
+
+  /** Default constructor, required by {@link java.util.ServiceLoader}. */
+  public InjectProcessor() {
+    this.generatedIndexes = new TreeSet<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    final var typesByPackage = new TreeMap<String, Set<TypeElement>>();
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        final var enclosingType =
+            element instanceof TypeElement ? element : element.getEnclosingElement();
+        if (!(enclosingType instanceof TypeElement)) {
+          continue;
+        }
+
+        final var type = (TypeElement) enclosingType;
+        if (isIndexable(type)) {
+          typesByPackage
+              .computeIfAbsent(
+                  packageOf(type).getQualifiedName().toString(),
+                  name ->
+                      new TreeSet<>(
+                          (first, second) ->
+                              first
+                                  .getQualifiedName()
+                                  .toString()
+                                  .compareTo(second.getQualifiedName().toString())))
+              .add(type);
+        }
+      }
+    }
+
+    for (Map.Entry<String, Set<TypeElement>> entry : typesByPackage.entrySet()) {
+      writeIndex(entry.getKey(), entry.getValue());
+    }
+
+    if (roundEnv.processingOver() && !generatedIndexes.isEmpty()) {
+      writeServiceFile();
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks whether the class can be referenced and instantiated from the generated index.
+   *
+   * @param type to check
+   * @return {@code true} if the class can be described
+   */
+  private boolean isIndexable(TypeElement type) {
+    if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+      return false;
+    }
+
+    // Inner classes receive the enclosing instance as a hidden constructor parameter
+    if (type.getNestingKind() == NestingKind.MEMBER
+        && !type.getModifiers().contains(Modifier.STATIC)) {
+      return false;
+    }
+
+    return isAccessible(type, packageOf(type));
+  }
+
+  /**
+   * Writes a single index for all described classes of the package.
+   *
+   * @param packageName of the described classes
+   * @param types to describe
+   */
+  private void writeIndex(String packageName, Set<TypeElement> types) {
+    final var descriptors = new ArrayList<String>();
+    final var originatingElements = new ArrayList<TypeElement>();
+    final var packageElement = packageOf(types.iterator().next());
+
+    for (TypeElement type : types) {
+      final var descriptor = describe(type, packageElement);
+      if (descriptor != null) {
+        descriptors.add(descriptor);
+        originatingElements.add(type);
+      }
+    }
+
+    if (descriptors.isEmpty()) {
+      return;
+    }
+
+    final var typeNames = new StringJoiner(",");
+    for (TypeElement type : types) {
+      typeNames.add(type.getQualifiedName());
+    }
+
+    final var simpleName = INDEX_PREFIX + Integer.toHexString(typeNames.toString().hashCode());
+    final var qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+
+    if (!generatedIndexes.add(qualifiedName)) {
+      return;
+    }
+
+    final var source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+
+    source
+        .append("/** Compile-time class index generated by ")
+        .append(InjectProcessor.class.getName())
+        .append(". */\n")
+        .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(SPI_PACKAGE)
+        .append("ClassIndex {\n")
+        .append("  /** Default constructor, required by java.util.ServiceLoader. */\n")
+        .append("  public ")
+        .append(simpleName)
+        .append("() {\n    // Stateless\n  }\n\n")
+        .append("  @Override\n")
+        .append("  public java.util.List<")
+        .append(SPI_PACKAGE)
+        .append("ClassDescriptor> descriptors() {\n")
+        .append("    final var descriptors = new java.util.ArrayList<")
+        .append(SPI_PACKAGE)
+        .append("ClassDescriptor>(")
+        .append(descriptors.size())
+        .append(");\n");
+
+    for (int i = 0; i < descriptors.size(); i++) {
+      source.append("    descriptors.add(descriptor").append(i).append("());\n");
+    }
+
+    source
+        .append("    return descriptors;\n  }\n\n")
+        .append("  @Override\n")
+        .append("  public ")
+        .append(SPI_PACKAGE)
+        .append("ClassDescriptor describe(Class<?> type) {\n")
+        .append("    switch (type.getName()) {\n");
+
+    // Builds only the descriptor of the requested class
+    for (int i = 0; i < descriptors.size(); i++) {
+      source
+          .append("      case \"")
+          .append(processingEnv.getElementUtils().getBinaryName(originatingElements.get(i)))
+          .append("\":\n        return descriptor")
+          .append(i)
+          .append("();\n");
+    }
+
+    source.append("      default:\n        return null;\n    }\n  }\n");
+
+    // One method per class keeps every method far below the bytecode size limit
+    for (int i = 0; i < descriptors.size(); i++) {
+      source
+          .append("\n  private static ")
+          .append(SPI_PACKAGE)
+          .append("ClassDescriptor descriptor")
+          .append(i)
+          .append("() {\n    return ")
+          .append(descriptors.get(i))
+          .append(";\n  }\n");
+    }
+
+    source.append("}\n");
+
+    try (Writer writer =
+        processingEnv
+            .getFiler()
+            .createSourceFile(qualifiedName, originatingElements.toArray(new Element[0]))
+            .openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Cannot write class index " + qualifiedName + ": " + e.getMessage());
+      generatedIndexes.remove(qualifiedName);
+    }
+  }
+
+  /** Registers every generated index for {@link java.util.ServiceLoader}. */
+  private void writeServiceFile() {
+    try (Writer writer =
+        processingEnv
+            .getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE)
+            .openWriter()) {
+      for (String generatedIndex : generatedIndexes) {
+        writer.write(generatedIndex);
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write " + SERVICE_FILE, e);
+    }
+  }
+
+  /**
+   * Creates a source expression constructing the descriptor of the class.
+   *
+   * @param type to describe
+   * @param indexPackage package of the generated index
+   * @return source expression, or {@code null} if the class cannot be described
+   */
+  private @Nullable String describe(TypeElement type, PackageElement indexPackage) {
+    final var constructor = isAbstract(type) ? "null" : describeConstructor(type, indexPackage);
+    final var fields = describeFields(type, indexPackage);
+    final var providerMethods = describeProviderMethods(type, indexPackage);
+
+    if (constructor == null || fields == null || providerMethods == null) {
+      return null;
+    }
+
+    return "new "
+        + SPI_PACKAGE
+        + "ClassDescriptor(\n        "
+        + classLiteral(type)
+        + ",\n        "
+        + constructor
+        + ",\n        "
+        + fields
+        + ",\n        "
+        + providerMethods
+        + ")";
+  }
+
+  /**
+   * Identifies the injectable constructor using the same rules as the injector.
+   *
+   * @param type to describe
+   * @param indexPackage package of the generated index
+   * @return source expression, or {@code null} if the injector would reject the class
+   */
+  private @Nullable String describeConstructor(TypeElement type, PackageElement indexPackage) {
+    ExecutableElement injectConstructor = null;
+    ExecutableElement defaultConstructor = null;
+
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (hasAnnotation(constructor, INJECT)) {
+        if (injectConstructor != null) {
+          return null;
+        }
+
+        injectConstructor = constructor;
+      } else if (constructor.getParameters().isEmpty()) {
+        defaultConstructor = constructor;
+      }
+    }
+
+    if ((injectConstructor == null) == (defaultConstructor == null)) {
+      return null;
+    }
+
+    final var constructor = injectConstructor == null ? defaultConstructor : injectConstructor;
+    final var parameterTypes = parameterTypes(constructor, indexPackage);
+    if (parameterTypes == null) {
+      return null;
+    }
+
+    final var invoker =
+        isAccessible(constructor, indexPackage)
+            ? "(receiver, arguments) -> new " + typeName(type) + arguments(constructor)
+            : "null";
+
+    return SPI_PACKAGE
+        + "MemberDescriptor.constructor(\n            "
+        + classLiteral(type)
+        + ",\n            "
+        + invoker
+        + parameterTypes
+        + ")";
+  }
+
+  /**
+   * Collects injectable fields of the class and its superclasses.
+   *
+   * @param type to describe
+   * @param indexPackage package of the generated index
+   * @return source expression, or {@code null} if any declaring class cannot be referenced
+   */
+  private @Nullable String describeFields(TypeElement type, PackageElement indexPackage) {
+    final var fields = new StringJoiner(",\n            ", "java.util.List.of(\n            ", ")");
+    fields.setEmptyValue("java.util.List.of()");
+
+    for (TypeElement current : hierarchyOf(type)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (!hasAnnotation(field, INJECT)) {
+          continue;
+        }
+
+        if (!isAccessible(current, indexPackage)) {
+          return null;
+        }
+
+        fields.add(
+            SPI_PACKAGE
+                + "MemberDescriptor.field("
+                + classLiteral(current)
+                + ", \""
+                + field.getSimpleName()
+                + "\")");
+      }
+    }
+
+    return fields.toString();
+  }
+
+  /**
+   * Collects provider methods of the class and its superclasses which are not overridden.
+   *
+   * @param type to describe
+   * @param indexPackage package of the generated index
+   * @return source expression, or {@code null} if any method cannot be referenced
+   */
+  private @Nullable String describeProviderMethods(TypeElement type, PackageElement indexPackage) {
+    final var methods =
+        new StringJoiner(",\n            ", "java.util.List.of(\n            ", ")");
+    methods.setEmptyValue("java.util.List.of()");
+
+    final var descendantMethods = new HashMap<String, List<ExecutableElement>>();
+    for (TypeElement current : hierarchyOf(type)) {
+      for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+        final var sameNameMethods =
+            descendantMethods.computeIfAbsent(
+                method.getSimpleName().toString(), name -> new ArrayList<>());
+
+        if (isOverridden(sameNameMethods, method)) {
+          continue;
+        }
+
+        sameNameMethods.add(method);
+
+        if (!hasAnnotation(method, PROVIDES)) {
+          continue;
+        }
+
+        // Injector rejects methods returning nothing, reflection reports it
+        final var parameterTypes = parameterTypes(method, indexPackage);
+        if (parameterTypes == null
+            || method.getReturnType().getKind() == TypeKind.VOID
+            || !isAccessible(current, indexPackage)) {
+          return null;
+        }
+
+        // Inherited methods are invoked through the index of their declaring class
+        final var invoker =
+            current.equals(type) && isAccessible(method, indexPackage)
+                ? "(receiver, arguments) -> "
+                    + (method.getModifiers().contains(Modifier.STATIC)
+                        ? typeName(type)
+                        : "((" + typeName(type) + ") receiver)")
+                    + '.'
+                    + method.getSimpleName()
+                    + arguments(method)
+                : "null";
+
+        methods.add(
+            SPI_PACKAGE
+                + "MemberDescriptor.method(\n                "
+                + classLiteral(current)
+                + ",\n                \""
+                + method.getSimpleName()
+                + "\",\n                "
+                + invoker
+                + parameterTypes
+                + ")");
+      }
+    }
+
+    return methods.toString();
+  }
+
+  /**
+   * @param descendants methods with the same name declared lower in the hierarchy
+   * @param method to check
+   * @return {@code true} if any of the descendants overrides the method
+   */
+  private boolean isOverridden(List<ExecutableElement> descendants, ExecutableElement method) {
+    final var elements = processingEnv.getElementUtils();
+    for (ExecutableElement descendant : descendants) {
+      if (elements.overrides(descendant, method, (TypeElement) descendant.getEnclosingElement())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @param type to start from
+   * @return the class followed by its superclasses, excluding {@link Object}
+   */
+  private List<TypeElement> hierarchyOf(TypeElement type) {
+    final var hierarchy = new ArrayList<TypeElement>();
+
+    TypeElement current = type;
+    while (current != null && !current.getQualifiedName().contentEquals(OBJECT)) {
+      hierarchy.add(current);
+
+      final var superclass = current.getSuperclass();
+      current =
+          superclass.getKind() == TypeKind.DECLARED
+              ? (TypeElement) ((DeclaredType) superclass).asElement()
+              : null;
+    }
+
+    return hierarchy;
+  }
+
+  /**
+   * Creates a source fragment with class literals of the parameter types.
+   *
+   * @param executable to describe
+   * @param indexPackage package of the generated index
+   * @return source fragment starting with a comma, or {@code null} if any type cannot be referenced
+   */
+  private @Nullable String parameterTypes(
+      ExecutableElement executable, PackageElement indexPackage) {
+    final var parameterTypes = new StringBuilder();
+    for (VariableElement parameter : executable.getParameters()) {
+      final var erasure = processingEnv.getTypeUtils().erasure(parameter.asType());
+      if (!isAccessible(erasure, indexPackage)) {
+        return null;
+      }
+
+      parameterTypes.append(", ").append(typeName(erasure)).append(".class");
+    }
+
+    return parameterTypes.toString();
+  }
+
+  /**
+   * Creates a source fragment passing casted invoker arguments to the executable.
+   *
+   * @param executable to invoke
+   * @return source fragment with arguments in parentheses
+   */
+  private String arguments(ExecutableElement executable) {
+    final var arguments = new StringJoiner(", ", "(", ")");
+    final var parameters = executable.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      final var erasure = processingEnv.getTypeUtils().erasure(parameters.get(i).asType());
+      arguments.add("(" + typeName(erasure) + ") arguments[" + i + "]");
+    }
+
+    return arguments.toString();
+  }
+
+  /**
+   * @param type to check
+   * @param indexPackage package of the generated index
+   * @return {@code true} if the type can be referenced from the generated index
+   */
+  private boolean isAccessible(TypeMirror type, PackageElement indexPackage) {
+    if (type.getKind().isPrimitive()) {
+      return true;
+    }
+
+    if (type.getKind() == TypeKind.ARRAY) {
+      return isAccessible(((ArrayType) type).getComponentType(), indexPackage);
+    }
+
+    return type.getKind() == TypeKind.DECLARED
+        && isAccessible(((DeclaredType) type).asElement(), indexPackage);
+  }
+
+  /**
+   * @param element to check, together with its enclosing classes
+   * @param indexPackage package of the generated index
+   * @return {@code true} if the element can be referenced from the generated index
+   */
+  private boolean isAccessible(Element element, PackageElement indexPackage) {
+    Element current = element;
+    while (current != null && current.getKind() != ElementKind.PACKAGE) {
+      final var modifiers = current.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)
+          || (!modifiers.contains(Modifier.PUBLIC) && !packageOf(current).equals(indexPackage))) {
+        return false;
+      }
+
+      if (current instanceof TypeElement
+          && ((TypeElement) current).getNestingKind().isNested()
+          && ((TypeElement) current).getNestingKind() != NestingKind.MEMBER) {
+        return false;
+      }
+
+      current = current.getEnclosingElement();
+    }
+
+    return true;
+  }
+
+  /**
+   * @param element to check
+   * @param annotation qualified name of the annotation
+   * @return {@code true} if the element is directly annotated with the annotation
+   */
+  private static boolean hasAnnotation(Element element, String annotation) {
+    for (var mirror : element.getAnnotationMirrors()) {
+      final var annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotationType.getQualifiedName().contentEquals(annotation)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @param type to check
+   * @return {@code true} if the class cannot be instantiated
+   */
+  private static boolean isAbstract(TypeElement type) {
+    return type.getModifiers().contains(Modifier.ABSTRACT);
+  }
+
+  /**
+   * @param type to reference
+   * @return canonical name of the raw class
+   */
+  private static String typeName(TypeElement type) {
+    return type.getQualifiedName().toString();
+  }
+
+  /**
+   * Renders the type from its elements, since the type itself may carry type annotations, which are
+   * not allowed in class literals.
+   *
+   * @param erasure of the type to reference
+   * @return canonical name of the primitive, array or raw class
+   */
+  private static String typeName(TypeMirror erasure) {
+    if (erasure.getKind().isPrimitive()) {
+      return erasure.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    if (erasure.getKind() == TypeKind.ARRAY) {
+      return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+    }
+
+    return typeName((TypeElement) ((DeclaredType) erasure).asElement());
+  }
+
+  /**
+   * @param type to reference
+   * @return class literal of the raw class
+   */
+  private static String classLiteral(TypeElement type) {
+    return typeName(type) + ".class";
+  }
+
+  /**
+   * @param element to find package for
+   * @return package of the element
+   */
+  private PackageElement packageOf(Element element) {
+    return processingEnv.getElementUtils().getPackageOf(element);
+  }
+}
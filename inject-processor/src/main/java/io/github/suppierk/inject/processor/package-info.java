@@ -0,0 +1,5 @@
+/** Annotation processor generating compile-time class indexes for the injector. */
+@NullMarked
+package io.github.suppierk.inject.processor;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,285 @@
+package io.github.suppierk.inject.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import io.github.suppierk.inject.internal.ClassIndexes;
+import jakarta.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InjectProcessorTest {
+  private static final Map<String, String> SOURCES =
+      Map.of(
+          "sample/Dependency.java",
+          "package sample;\n"
+              + "@jakarta.inject.Singleton\n"
+              + "public class Dependency {\n"
+              + "  @jakarta.inject.Inject\n"
+              + "  public Dependency() {}\n"
+              + "}\n",
+          "sample/Consumer.java",
+          "package sample;\n"
+              + "public class Consumer {\n"
+              + "  public final Dependency dependency;\n"
+              + "  @jakarta.inject.Inject public String value;\n"
+              + "  @jakarta.inject.Inject\n"
+              + "  Consumer(Dependency dependency) {\n"
+              + "    this.dependency = dependency;\n"
+              + "  }\n"
+              + "}\n",
+          "sample/Factory.java",
+          "package sample;\n"
+              + "class Factory {\n"
+              + "  @io.github.suppierk.inject.Provides\n"
+              + "  String value(Dependency dependency) {\n"
+              + "    return \"value\";\n"
+              + "  }\n"
+              + "}\n",
+          "sample/Hidden.java",
+          "package sample;\n"
+              + "class Hidden {\n"
+              + "  private static class Secret {\n"
+              + "    @jakarta.inject.Inject\n"
+              + "    Secret() {}\n"
+              + "  }\n"
+              + "}\n");
+
+  @TempDir Path directory;
+
+  @AfterEach
+  void reloadIndexes() {
+    Injector.clearMetadataCache();
+  }
+
+  @Test
+  void generatedIndexIsUsedByInjector() throws Exception {
+    final var output = compile();
+
+    // Indexes are looked up through the class loader of every class, not the context one
+    try (var classLoader =
+        new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+      final var dependency = classLoader.loadClass("sample.Dependency");
+      final var consumer = classLoader.loadClass("sample.Consumer");
+      final var factory = classLoader.loadClass("sample.Factory");
+      final var secret = classLoader.loadClass("sample.Hidden$Secret");
+
+      assertNotNull(ClassIndexes.find(consumer), "Consumer must be indexed");
+      assertNotNull(
+          ClassIndexes.invoker(consumer.getDeclaredConstructor(dependency)),
+          "Package-private constructor must get a compiled invoker");
+      assertNotNull(
+          ClassIndexes.invoker(factory.getDeclaredMethod("value", dependency)),
+          "Package-private provider method must get a compiled invoker");
+      assertNull(ClassIndexes.find(secret), "Private classes must be left to reflection");
+
+      final var injector = Injector.injector().add(dependency, consumer, factory).build();
+      final var instance = injector.get(consumer);
+
+      assertEquals("value", consumer.getDeclaredField("value").get(instance));
+      assertNotNull(consumer.getDeclaredField("dependency").get(instance));
+    }
+  }
+
+  @Test
+  void staleIndexFallsBackToReflection() throws Exception {
+    final var output = compile();
+
+    // Recompiled without the processor, so that the index misses the new provider method
+    compile(
+        output,
+        Map.of(
+            "sample/Factory.java",
+            "package sample;\n"
+                + "class Factory {\n"
+                + "  @io.github.suppierk.inject.Provides\n"
+                + "  String value(Dependency dependency) {\n"
+                + "    return \"value\";\n"
+                + "  }\n"
+                + "  @io.github.suppierk.inject.Provides\n"
+                + "  Integer number() {\n"
+                + "    return 42;\n"
+                + "  }\n"
+                + "}\n"),
+        false);
+
+    // File systems with coarse timestamps may not tell the recompiled class from the index
+    final var factoryClass = output.resolve("sample/Factory.class");
+    Files.setLastModifiedTime(
+        factoryClass,
+        FileTime.fromMillis(
+            Files.getLastModifiedTime(factoryClass).toMillis() + TimeUnit.MINUTES.toMillis(1)));
+
+    try (var classLoader =
+        new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+      final var dependency = classLoader.loadClass("sample.Dependency");
+      final var factory = classLoader.loadClass("sample.Factory");
+
+      assertNotNull(ClassIndexes.find(dependency), "Dependency compiled with the index is trusted");
+      assertNull(ClassIndexes.find(factory), "Factory recompiled after the index is not trusted");
+
+      final var injector = Injector.injector().add(dependency, factory).build();
+
+      assertEquals(42, injector.get(Integer.class), "Provider method added later must be found");
+      assertEquals("value", injector.get(String.class));
+    }
+  }
+
+  @Test
+  void annotatedParameterTypesAreReferencedWithoutAnnotations() throws Exception {
+    final var output = directory.resolve("classes");
+    Files.createDirectories(output);
+
+    compile(
+        output,
+        Map.of(
+            "sample/Annotated.java",
+            "package sample;\n"
+                + "import org.jspecify.annotations.Nullable;\n"
+                + "public class Annotated {\n"
+                + "  public final String value;\n"
+                + "  public final String[] values;\n"
+                + "  @jakarta.inject.Inject\n"
+                + "  Annotated(@Nullable String value, @Nullable String[] values) {\n"
+                + "    this.value = value;\n"
+                + "    this.values = values;\n"
+                + "  }\n"
+                + "}\n",
+            "sample/Values.java",
+            "package sample;\n"
+                + "class Values {\n"
+                + "  @io.github.suppierk.inject.Provides\n"
+                + "  String value() {\n"
+                + "    return \"value\";\n"
+                + "  }\n"
+                + "  @io.github.suppierk.inject.Provides\n"
+                + "  String[] values(String value) {\n"
+                + "    return new String[] {value};\n"
+                + "  }\n"
+                + "}\n"),
+        true);
+
+    try (var classLoader =
+        new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+      final var annotated = classLoader.loadClass("sample.Annotated");
+      final var values = classLoader.loadClass("sample.Values");
+
+      assertNotNull(
+          ClassIndexes.invoker(annotated.getDeclaredConstructor(String.class, String[].class)),
+          "Constructor with annotated parameter types must get a compiled invoker");
+
+      final var instance = Injector.injector().add(annotated, values).build().get(annotated);
+
+      assertEquals("value", annotated.getDeclaredField("value").get(instance));
+    }
+  }
+
+  @Test
+  void serviceFileListsGeneratedIndex() throws Exception {
+    final var output = compile();
+
+    final var services = Files.readAllLines(output.resolve(InjectProcessor.SERVICE_FILE));
+
+    assertEquals(1, services.size(), "Single package must produce a single index");
+    assertTrue(services.get(0).startsWith("sample." + InjectProcessor.INDEX_PREFIX));
+  }
+
+  private Path compile() throws IOException {
+    final var output = directory.resolve("classes");
+    Files.createDirectories(output);
+
+    compile(output, SOURCES, true);
+
+    try (Stream<Path> generated = Files.list(output.resolve("sample"))) {
+      assertTrue(
+          generated.anyMatch(
+              path -> path.getFileName().toString().startsWith(InjectProcessor.INDEX_PREFIX)),
+          "Index source must be generated");
+    }
+
+    return output;
+  }
+
+  private void compile(Path output, Map<String, String> sourceFiles, boolean process)
+      throws IOException {
+    final var sources = directory.resolve("sources");
+
+    final var files = new ArrayList<Path>();
+    for (Map.Entry<String, String> entry : sourceFiles.entrySet()) {
+      final var file = sources.resolve(entry.getKey());
+      Files.createDirectories(file.getParent());
+      files.add(Files.writeString(file, entry.getValue()));
+    }
+
+    final var options =
+        new ArrayList<>(
+            List.of(
+                "-classpath",
+                locationOf(Inject.class)
+                    + File.pathSeparator
+                    + locationOf(Provides.class)
+                    + File.pathSeparator
+                    + locationOf(Nullable.class)
+                    + File.pathSeparator
+                    + output,
+                "-d",
+                output.toString(),
+                "-s",
+                output.toString()));
+    if (!process) {
+      options.add("-proc:none");
+    }
+
+    final var compiler = ToolProvider.getSystemJavaCompiler();
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      final var task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              options,
+              null,
+              fileManager.getJavaFileObjectsFromPaths(files));
+      task.setProcessors(List.of(new InjectProcessor()));
+
+      assertTrue(
+          task.call(),
+          () ->
+              diagnostics.getDiagnostics().stream()
+                  .map(Object::toString)
+                  .collect(Collectors.joining("\n")));
+    }
+  }
+
+  private static String locationOf(Class<?> clazz) {
+    try {
+      return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -25,6 +25,9 @@ package io.github.suppierk.inject;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.Main;
@@ -316,6 +319,16 @@ public class InjectorBenchmark {
     return newInjector(CHAIN_CLASSES, state.classCount);
   }
 
+  @Benchmark
+  public Injector buildChainCold(ColdChainState state) {
+    return newInjector(CHAIN_CLASSES, state.classCount);
+  }
+
+  @Benchmark
+  public Injector loadChainCold(ColdChainState state) {
+    return Injector.injector().load(state.snapshot);
+  }
+
   @Benchmark
   public void getChainLeaf(ChainState state, Blackhole blackhole) {
     blackhole.consume(state.injector.get(state.leafClass()));
@@ -395,6 +408,27 @@ public class InjectorBenchmark {
     }
   }
 
+  @State(Scope.Thread)
+  public static class ColdChainState {
+    @Param({"8", "32", "64"})
+    int classCount;
+
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setupSnapshot() throws IOException {
+      snapshot = Files.createTempFile("chain", ".bin");
+      snapshot.toFile().deleteOnExit();
+      newInjector(CHAIN_CLASSES, classCount).save(snapshot);
+    }
+
+    // Builds and loads must not reuse metadata cached by previous invocations
+    @Setup(Level.Invocation)
+    public void clearMetadataCache() {
+      Injector.clearMetadataCache();
+    }
+  }
+
   @State(Scope.Benchmark)
   public static class SingletonChainState {
     @Param({"8", "32", "64"})
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally maintained topological order of the builder dependency graph.
+ *
+ * <p>Every registered key holds a position such that its dependencies are positioned before it.
+ * Registering a key only inspects the affected region of the graph (Pearce-Kelly dynamic
+ * topological sort), so cycles are detected without re-traversing the whole graph.
+ *
+ * <p>The order only serves cycle detection: it follows registration order, while built injectors
+ * order their keys by name to render and close equivalent graphs identically.
+ *
+ * <p>Dependencies on keys which are not registered yet are remembered and become edges once these
+ * keys are registered.
+ *
+ * <p>This class is not thread-safe, builders guard it with their lock.
+ */
+final class DependencyOrder {
+  private static final int ABSENT = -1;
+
+  private final Map<Key<?>, Vertex> vertices;
+  private int nextPosition;
+  private int epoch;
+
+  /** Default constructor. */
+  DependencyOrder() {
+    this.vertices = new HashMap<>();
+  }
+
+  /**
+   * Registers the key with its dependencies, reordering affected keys if necessary.
+   *
+   * <p>If the registration introduces a cycle, the key is left unregistered.
+   *
+   * @param key to register
+   * @param dependencyKeys keys the registered key depends on
+   * @return {@code true} if the key was registered, {@code false} if it would introduce a cycle
+   * @throws IllegalStateException if the key is already registered
+   */
+  boolean add(Key<?> key, Collection<Key<?>> dependencyKeys) {
+    final var vertex = vertices.computeIfAbsent(key, Vertex::new);
+    if (vertex.isPresent()) {
+      throw new IllegalStateException(String.format("%s is already ordered", key));
+    }
+
+    vertex.position = nextPosition++;
+    for (Key<?> dependencyKey : dependencyKeys) {
+      final var dependency = vertices.computeIfAbsent(dependencyKey, Vertex::new);
+      vertex.dependencies.add(dependency);
+      dependency.consumers.add(vertex);
+    }
+
+    // Dependencies are already positioned before the new key, only waiting consumers may violate
+    for (int i = 0; i < vertex.consumers.size(); i++) {
+      final var consumer = vertex.consumers.get(i);
+      if (consumer.isPresent() && !insertEdge(vertex, consumer)) {
+        remove(key);
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Unregisters the key, keeping the order of remaining keys valid.
+   *
+   * <p>Keys depending on the removed key will wait for it to be registered again.
+   *
+   * @param key to unregister
+   */
+  void remove(Key<?> key) {
+    final var vertex = vertices.get(key);
+    if (vertex == null || !vertex.isPresent()) {
+      return;
+    }
+
+    vertex.position = ABSENT;
+    for (Vertex dependency : vertex.dependencies) {
+      dependency.consumers.remove(vertex);
+      prune(dependency);
+    }
+
+    vertex.dependencies.clear();
+    prune(vertex);
+  }
+
+  /**
+   * Restores the order invariant for the edge from dependency to consumer, both registered.
+   *
+   * @param dependency which must be positioned first
+   * @param consumer which must be positioned after the dependency
+   * @return {@code false} if the edge closes a cycle
+   */
+  private boolean insertEdge(Vertex dependency, Vertex consumer) {
+    if (dependency.position < consumer.position) {
+      return true;
+    }
+
+    if (dependency == consumer) {
+      return false;
+    }
+
+    epoch++;
+
+    final var forward = new ArrayList<Vertex>();
+    if (!collectConsumers(consumer, dependency, forward)) {
+      return false;
+    }
+
+    final var backward = new ArrayList<Vertex>();
+    collectDependencies(dependency, consumer.position, backward);
+
+    reorder(backward, forward);
+    return true;
+  }
+
+  /**
+   * Collects registered consumers reachable from the start, positioned before the dependency.
+   *
+   * @param start to begin traversal from
+   * @param dependency which must not be reachable
+   * @param collected traversed vertices
+   * @return {@code false} if the dependency is reachable, meaning there is a cycle
+   */
+  private boolean collectConsumers(Vertex start, Vertex dependency, List<Vertex> collected) {
+    final var stack = new ArrayDeque<Vertex>();
+    start.mark = epoch;
+    stack.push(start);
+
+    while (!stack.isEmpty()) {
+      final var vertex = stack.pop();
+      collected.add(vertex);
+
+      for (Vertex consumer : vertex.consumers) {
+        if (consumer == dependency) {
+          return false;
+        }
+
+        if (consumer.isPresent()
+            && consumer.mark != epoch
+            && consumer.position < dependency.position) {
+          consumer.mark = epoch;
+          stack.push(consumer);
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Collects registered dependencies reachable from the start, positioned after the lower bound.
+   *
+   * @param start to begin traversal from
+   * @param lowerBound position of the consumer which triggered reordering
+   * @param collected traversed vertices
+   */
+  private void collectDependencies(Vertex start, int lowerBound, List<Vertex> collected) {
+    final var stack = new ArrayDeque<Vertex>();
+    start.mark = epoch;
+    stack.push(start);
+
+    while (!stack.isEmpty()) {
+      final var vertex = stack.pop();
+      collected.add(vertex);
+
+      for (Vertex dependency : vertex.dependencies) {
+        if (dependency.isPresent()
+            && dependency.mark != epoch
+            && dependency.position > lowerBound) {
+          dependency.mark = epoch;
+          stack.push(dependency);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reassigns positions occupied by both regions, placing dependencies before consumers.
+   *
+   * @param backward vertices which must come first
+   * @param forward vertices which must come after
+   */
+  private static void reorder(List<Vertex> backward, List<Vertex> forward) {
+    backward.sort(Vertex.BY_POSITION);
+    forward.sort(Vertex.BY_POSITION);
+
+    final var positions = new int[backward.size() + forward.size()];
+    int index = 0;
+    for (Vertex vertex : backward) {
+      positions[index++] = vertex.position;
+    }
+    for (Vertex vertex : forward) {
+      positions[index++] = vertex.position;
+    }
+
+    Arrays.sort(positions);
+
+    index = 0;
+    for (Vertex vertex : backward) {
+      vertex.position = positions[index++];
+    }
+    for (Vertex vertex : forward) {
+      vertex.position = positions[index++];
+    }
+  }
+
+  /**
+   * Forgets the vertex once it is neither registered nor awaited by any consumer.
+   *
+   * @param vertex to check
+   */
+  private void prune(Vertex vertex) {
+    if (!vertex.isPresent() && vertex.consumers.isEmpty()) {
+      vertices.remove(vertex.key);
+    }
+  }
+
+  /** Graph vertex holding its position and edges in both directions. */
+  private static final class Vertex {
+    private static final Comparator<Vertex> BY_POSITION =
+        Comparator.comparingInt(vertex -> vertex.position);
+
+    private final Key<?> key;
+    private final List<Vertex> dependencies;
+    private final List<Vertex> consumers;
+    private int position;
+    private int mark;
+
+    private Vertex(Key<?> key) {
+      this.key = key;
+      this.dependencies = new ArrayList<>();
+      this.consumers = new ArrayList<>();
+      this.position = ABSENT;
+    }
+
+    private boolean isPresent() {
+      return position != ABSENT;
+    }
+  }
+}
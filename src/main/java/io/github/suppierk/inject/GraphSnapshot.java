@@ -0,0 +1,520 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject;
+
+import io.github.suppierk.inject.internal.ClassFiles;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compact binary form of a built {@link Injector} graph.
+ *
+ * <p>The file consists of a class table, where every class carries a fingerprint of its class file,
+ * followed by graph entries in topological order. Entries refer to classes and to other entries by
+ * their index.
+ *
+ * <p>Fingerprints are taken without reading class files where possible: classes loaded from local
+ * JARs use a CRC32 over the names, sizes and CRC32s of all JAR entries, read from its central
+ * directory once per JAR, while classes loaded from directories use the size and the modification
+ * time of their class file. Other classes use a CRC32 of their class file, except for classes
+ * loaded by the bootstrap class loader, which are not fingerprinted.
+ */
+final class GraphSnapshot {
+  /** Node which holds a plain object, provided again when the snapshot is loaded. */
+  static final byte VALUE = 0;
+
+  /** Node which refers to the entry replacing it. */
+  static final byte REFERS_TO = 1;
+
+  /** Node which creates new instances via constructor. */
+  static final byte CONSTRUCTS_NEW = 2;
+
+  /** Node which creates a single instance via constructor. */
+  static final byte CONSTRUCTS_SINGLETON = 3;
+
+  /** Node which creates new instances via provider method. */
+  static final byte PROVIDES_NEW = 4;
+
+  /** Node which creates a single instance via provider method. */
+  static final byte PROVIDES_SINGLETON = 5;
+
+  private static final int MAGIC = 0x494E4A47;
+  private static final int VERSION = 1;
+  private static final long NO_FINGERPRINT = 0L;
+  private static final int CLASS_SIZE = Integer.BYTES + Long.BYTES;
+  private static final int ENTRY_SIZE = 4 * Integer.BYTES + Byte.BYTES;
+  private static final String STALE_TEMPLATE = "Stale snapshot: %s";
+  private static final String MALFORMED_TEMPLATE = "Malformed snapshot: %s";
+  private static final Map<String, Class<?>> PRIMITIVE_CLASSES =
+      Map.of(
+          "boolean", boolean.class,
+          "byte", byte.class,
+          "char", char.class,
+          "short", short.class,
+          "int", int.class,
+          "long", long.class,
+          "float", float.class,
+          "double", double.class);
+
+  private static volatile Map<Path, Long> jarFingerprints = new ConcurrentHashMap<>();
+
+  private GraphSnapshot() {
+    // Utility class
+  }
+
+  /** Discards JAR fingerprints, so that they are computed again on next use. */
+  static void reload() {
+    jarFingerprints = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Writes graph entries to the file, replacing it if it exists.
+   *
+   * @param path to write to
+   * @param entries in topological order
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  static void write(Path path, List<Entry> entries) {
+    final var classIds = new LinkedHashMap<Class<?>, Integer>();
+    for (Entry entry : entries) {
+      for (Class<?> clazz : entry.classes()) {
+        classIds.putIfAbsent(clazz, classIds.size());
+      }
+    }
+
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+
+      out.writeInt(classIds.size());
+      for (Class<?> clazz : classIds.keySet()) {
+        writeString(out, clazz.getName());
+        out.writeLong(fingerprint(clazz));
+      }
+
+      out.writeInt(entries.size());
+      for (Entry entry : entries) {
+        writeString(out, entry.signature);
+        out.writeByte(entry.kind);
+        out.writeInt(Objects.requireNonNull(classIds.get(entry.type)));
+        out.writeInt(entry.target);
+
+        if (entry.executable != null) {
+          if (entry.executable instanceof Method) {
+            out.writeInt(
+                Objects.requireNonNull(classIds.get(entry.executable.getDeclaringClass())));
+            writeString(out, entry.executable.getName());
+          }
+
+          out.writeInt(entry.executable.getParameterCount());
+          for (Class<?> parameterType : entry.executable.getParameterTypes()) {
+            out.writeInt(Objects.requireNonNull(classIds.get(parameterType)));
+          }
+        }
+
+        out.writeInt(entry.fields.size());
+        for (Field field : entry.fields) {
+          out.writeInt(Objects.requireNonNull(classIds.get(field.getDeclaringClass())));
+          writeString(out, field.getName());
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write snapshot: " + path, e);
+    }
+
+    try {
+      Files.write(path, bytes.toByteArray());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write snapshot: " + path, e);
+    }
+  }
+
+  /**
+   * Reads graph entries from the file.
+   *
+   * @param path to read from
+   * @param classLoader to load classes with
+   * @return entries in topological order
+   * @throws IllegalArgumentException if the file is malformed or any class has changed since the
+   *     snapshot was written
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  static List<Entry> read(Path path, @Nullable ClassLoader classLoader) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read snapshot: " + path, e);
+    }
+
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, path));
+      }
+
+      final var classes = new Class<?>[readLength(buffer, CLASS_SIZE)];
+      for (int i = 0; i < classes.length; i++) {
+        classes[i] = loadClass(readString(buffer), buffer.getLong(), classLoader);
+      }
+
+      final int count = readLength(buffer, ENTRY_SIZE);
+      final var entries = new ArrayList<Entry>(count);
+      for (int i = 0; i < count; i++) {
+        entries.add(readEntry(buffer, classes, i));
+      }
+
+      return List.copyOf(entries);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, path), e);
+    }
+  }
+
+  /**
+   * @param buffer to read from
+   * @param classes loaded from the class table
+   * @param index of the entry
+   * @return entry with resolved reflective members
+   * @throws IllegalArgumentException if any member has changed since the snapshot was written
+   */
+  private static Entry readEntry(ByteBuffer buffer, Class<?>[] classes, int index) {
+    final var signature = readString(buffer);
+    final var kind = buffer.get();
+    final var type = classes[buffer.getInt()];
+    final var target = buffer.getInt();
+
+    if (kind < VALUE || kind > PROVIDES_SINGLETON || (kind == REFERS_TO) != (target >= 0)) {
+      throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, signature));
+    }
+
+    if (target >= index) {
+      // Replacements always come before the keys referring to them
+      throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, signature));
+    }
+
+    Executable executable = null;
+    try {
+      if (kind == CONSTRUCTS_NEW || kind == CONSTRUCTS_SINGLETON) {
+        executable = type.getDeclaredConstructor(readClasses(buffer, classes));
+      } else if (kind == PROVIDES_NEW || kind == PROVIDES_SINGLETON) {
+        final var declaringClass = classes[buffer.getInt()];
+        final var name = readString(buffer);
+        executable = declaringClass.getDeclaredMethod(name, readClasses(buffer, classes));
+      }
+
+      final int fieldCount = readLength(buffer, Integer.BYTES + Integer.BYTES);
+      final var fields = new ArrayList<Field>(fieldCount);
+      for (int i = 0; i < fieldCount; i++) {
+        final var declaringClass = classes[buffer.getInt()];
+        fields.add(declaringClass.getDeclaredField(readString(buffer)));
+      }
+
+      return new Entry(signature, kind, type, target, executable, fields);
+    } catch (NoSuchMethodException | NoSuchFieldException e) {
+      throw new IllegalArgumentException(String.format(STALE_TEMPLATE, signature), e);
+    }
+  }
+
+  /**
+   * @param buffer to read from
+   * @param classes loaded from the class table
+   * @return parameter types
+   */
+  private static Class<?>[] readClasses(ByteBuffer buffer, Class<?>[] classes) {
+    final var parameterTypes = new Class<?>[readLength(buffer, Integer.BYTES)];
+    for (int i = 0; i < parameterTypes.length; i++) {
+      parameterTypes[i] = classes[buffer.getInt()];
+    }
+
+    return parameterTypes;
+  }
+
+  /**
+   * @param name of the class
+   * @param expectedFingerprint of the class file, stored in the snapshot
+   * @param classLoader to load the class with
+   * @return loaded class
+   * @throws IllegalArgumentException if the class is missing or its class file has changed
+   */
+  private static Class<?> loadClass(
+      String name, long expectedFingerprint, @Nullable ClassLoader classLoader) {
+    var clazz = PRIMITIVE_CLASSES.get(name);
+    if (clazz == null) {
+      try {
+        clazz = Class.forName(name, false, classLoader);
+      } catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException(String.format(STALE_TEMPLATE, name), e);
+      }
+    }
+
+    if (fingerprint(clazz) != expectedFingerprint) {
+      throw new IllegalArgumentException(String.format(STALE_TEMPLATE, name));
+    }
+
+    return clazz;
+  }
+
+  /**
+   * @param clazz to fingerprint
+   * @return fingerprint of the class file, or {@link #NO_FINGERPRINT} if the class file is not
+   *     available
+   */
+  private static long fingerprint(Class<?> clazz) {
+    if (clazz.isPrimitive() || clazz.isArray() || clazz.getClassLoader() == null) {
+      return NO_FINGERPRINT;
+    }
+
+    final var crc = new CRC32();
+    final var name = clazz.getName();
+    try {
+      final var location = ClassFiles.location(clazz);
+      if (location != null) {
+        // Avoids searching the class path for the class file and reading it
+        if (!Files.isDirectory(location)) {
+          return jarFingerprints.computeIfAbsent(location, GraphSnapshot::jarFingerprint);
+        }
+
+        final var attributes =
+            Files.readAttributes(ClassFiles.classFile(location, clazz), BasicFileAttributes.class);
+
+        crc.update(
+            ByteBuffer.allocate(2 * Long.BYTES)
+                .putLong(attributes.size())
+                .putLong(attributes.lastModifiedTime().toMillis())
+                .flip());
+        return crc.getValue();
+      }
+
+      try (InputStream in =
+          clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+        if (in == null) {
+          return NO_FINGERPRINT;
+        }
+
+        crc.update(in.readAllBytes());
+        return crc.getValue();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read class file: " + name, e);
+    }
+  }
+
+  /**
+   * @param jar to fingerprint
+   * @return CRC32 over the names, sizes and CRC32s of the JAR entries
+   * @throws UncheckedIOException if the JAR cannot be read
+   */
+  private static long jarFingerprint(Path jar) {
+    final var crc = new CRC32();
+    final var entryBuffer = ByteBuffer.allocate(2 * Long.BYTES);
+    try (var zip = new ZipFile(jar.toFile())) {
+      final var entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        final var entry = entries.nextElement();
+        crc.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+        crc.update(entryBuffer.clear().putLong(entry.getSize()).putLong(entry.getCrc()).flip());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read JAR: " + jar, e);
+    }
+
+    return crc.getValue();
+  }
+
+  /**
+   * Reads a length, making sure that the rest of the buffer can hold that many elements before they
+   * are allocated.
+   *
+   * @param buffer to read from
+   * @param elementSize minimal size of a single element, in bytes
+   * @return read length
+   * @throws BufferUnderflowException if the length is negative or exceeds the rest of the buffer
+   */
+  private static int readLength(ByteBuffer buffer, int elementSize) {
+    final int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining() / elementSize) {
+      throw new BufferUnderflowException();
+    }
+
+    return length;
+  }
+
+  /**
+   * @param out to write to
+   * @param value to write as length-prefixed UTF-8
+   * @throws IOException if the value cannot be written
+   */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    final var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * @param buffer to read length-prefixed UTF-8 from
+   * @return read value
+   */
+  private static String readString(ByteBuffer buffer) {
+    final var bytes = new byte[readLength(buffer, Byte.BYTES)];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Single graph node, described by the reflective members it is created from. */
+  static final class Entry {
+    private final String signature;
+    private final byte kind;
+    private final Class<?> type;
+    private final int target;
+    private final @Nullable Executable executable;
+    private final List<Field> fields;
+
+    /**
+     * Default constructor.
+     *
+     * @param signature of the key, used to detect changed qualifiers
+     * @param kind of the node
+     * @param type of the key, or of the factory/configuration class for provider methods
+     * @param target index of the referred entry, or {@code -1} if the node does not refer to one
+     * @param executable constructor or provider method, if the node invokes one
+     * @param fields to be injected
+     */
+    Entry(
+        String signature,
+        byte kind,
+        Class<?> type,
+        int target,
+        @Nullable Executable executable,
+        List<Field> fields) {
+      this.signature = signature;
+      this.kind = kind;
+      this.type = type;
+      this.target = target;
+      this.executable = executable;
+      this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * @return signature of the key
+     */
+    String signature() {
+      return signature;
+    }
+
+    /**
+     * @return kind of the node
+     */
+    byte kind() {
+      return kind;
+    }
+
+    /**
+     * @return type of the key, or of the factory/configuration class for provider methods
+     */
+    @SuppressWarnings("squid:S1452")
+    Class<?> type() {
+      return type;
+    }
+
+    /**
+     * @return index of the referred entry, or {@code -1} if the node does not refer to one
+     */
+    int target() {
+      return target;
+    }
+
+    /**
+     * @return constructor invoked by the node
+     * @throws IllegalStateException if the node does not invoke a constructor
+     */
+    @SuppressWarnings("squid:S1452")
+    Constructor<?> constructor() {
+      if (!(executable instanceof Constructor<?>)) {
+        throw new IllegalStateException(String.format(MALFORMED_TEMPLATE, signature));
+      }
+
+      return (Constructor<?>) executable;
+    }
+
+    /**
+     * @return provider method invoked by the node
+     * @throws IllegalStateException if the node does not invoke a method
+     */
+    Method method() {
+      if (!(executable instanceof Method)) {
+        throw new IllegalStateException(String.format(MALFORMED_TEMPLATE, signature));
+      }
+
+      return (Method) executable;
+    }
+
+    /**
+     * @return fields to be injected
+     */
+    List<Field> fields() {
+      return fields;
+    }
+
+    /**
+     * @return classes referenced by the entry
+     */
+    private List<Class<?>> classes() {
+      final var classes = new ArrayList<Class<?>>();
+      classes.add(type);
+
+      if (executable != null) {
+        classes.add(executable.getDeclaringClass());
+        classes.addAll(List.of(executable.getParameterTypes()));
+      }
+
+      for (Field field : fields) {
+        classes.add(field.getDeclaringClass());
+      }
+
+      return classes;
+    }
+  }
+}
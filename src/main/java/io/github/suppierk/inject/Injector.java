@@ -25,13 +25,18 @@ package io.github.suppierk.inject;
 
 import io.github.suppierk.inject.graph.ConstructsNew;
 import io.github.suppierk.inject.graph.ConstructsSingleton;
+import io.github.suppierk.inject.graph.Instantiation;
 import io.github.suppierk.inject.graph.Node;
 import io.github.suppierk.inject.graph.ProvidesNew;
 import io.github.suppierk.inject.graph.ProvidesSingleton;
 import io.github.suppierk.inject.graph.RefersTo;
 import io.github.suppierk.inject.graph.ReflectionNode;
 import io.github.suppierk.inject.graph.Value;
+import io.github.suppierk.inject.internal.ClassIndexes;
 import io.github.suppierk.inject.query.KeyAnnotationsPredicate;
+import io.github.suppierk.inject.spi.ClassDescriptor;
+import io.github.suppierk.inject.spi.ClassIndex;
+import io.github.suppierk.inject.spi.MemberDescriptor;
 import io.github.suppierk.utils.ConsoleConstants;
 import io.github.suppierk.utils.Memoized;
 import jakarta.inject.Inject;
@@ -52,26 +57,48 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -92,6 +119,11 @@ public final class Injector implements Closeable {
       "Captive dependency detected: @Singleton %s depends directly on non-singleton %s. "
           + "Mark %s as @Singleton, register it as an object, or inject Provider<%s>/Supplier<%s> instead.";
   private static final String CYCLE_TEMPLATE = "Found cycle: %s";
+  private static final String NOT_SNAPSHOTTABLE_TEMPLATE = "Cannot write to snapshot: %s";
+  private static final String STALE_SNAPSHOT_TEMPLATE = "Stale snapshot: %s";
+  private static final String SINGLETON_FAILURE_TEMPLATE = "Failed to create singleton: %s";
+  private static final String PROFILING_DISABLED = "Profiling is not enabled";
+  private static final String WARM_UP_DISABLED = "Warm-up profile is not recorded";
   private static final String MULTIPLE_INJECT_CONSTRUCTORS_TEMPLATE =
       "Multiple @Inject constructors found for class: %s";
   private static final String NO_SUITABLE_CONSTRUCTORS_TEMPLATE =
@@ -114,22 +146,120 @@ public final class Injector implements Closeable {
       Comparator.comparing((Key<?> key) -> key.type().getName())
           .thenComparing(Injector::annotationSortValue);
 
+  /** Process-wide reflection metadata, replaced as a whole by {@link #clearMetadataCache()}. */
+  private static volatile ClassValue<ClassMetadata<?>> metadataCache = newMetadataCache();
+
   private final Node<Injector> currentInjector;
   private final Map<Key<?>, Node<?>> providers;
+
+  // Dense ids are assigned in topological order, every array below is indexed by them
+  private final Map<Key<?>, Integer> ids;
+  private final Key<?>[] keys;
+  private final Node<?>[] nodes;
+  private final Node<?>[] resolvedNodes;
+
+  private final ConcurrentMap<Class<?>, Node<?>> classNodes;
   private final AtomicBoolean closed;
+  private final List<Key<?>> prunedKeys;
+
+  // Held while closing, as well as while warm-up creates a singleton, so that none outlives close
+  private final Lock closeLock;
+
+  // Lazily validated injectors mark validated ids with 1, eagerly validated injectors have none
+  private final @Nullable AtomicIntegerArray validatedIds;
+
+  // First creation timings of profiled injectors, others have none
+  private final @Nullable ConcurrentMap<Key<?>, StartupProfile.Timing> timings;
+
+  // Singletons in the order they were first requested, if warm-up profile is recorded
+  private final @Nullable Queue<Key<?>> resolutionOrder;
 
   /**
    * Default constructor.
    *
+   * <p>The injector takes ownership of the providers map, callers must not modify it afterwards.
+   *
+   * @param injectorReference for deferred lookups to the current instance
+   * @param providers of the dependencies to be used
+   * @param prunedKeys which were registered, but dropped as unreachable from the roots
+   * @param validated whether providers were validated, otherwise they are validated on first use
+   * @param profiled whether first creation of each node must be timed
+   * @param recorded whether the order of first singleton requests must be recorded
+   */
+  private Injector(
+      InjectorReference injectorReference,
+      Map<Key<?>, Node<?>> providers,
+      Collection<Key<?>> prunedKeys,
+      boolean validated,
+      boolean profiled,
+      boolean recorded) {
+    this(
+        injectorReference,
+        providers,
+        topologicallySortedKeys(providers),
+        prunedKeys,
+        validated,
+        profiled,
+        recorded);
+  }
+
+  /**
+   * Constructor for already ordered providers.
+   *
+   * <p>The injector takes ownership of the providers map, callers must not modify it afterwards.
+   *
    * @param injectorReference for deferred lookups to the current instance
    * @param providers of the dependencies to be used
+   * @param orderedKeys of the providers, where every key comes after its dependencies
+   * @param prunedKeys which were registered, but dropped as unreachable from the roots
+   * @param validated whether providers were validated, otherwise they are validated on first use
+   * @param profiled whether first creation of each node must be timed
+   * @param recorded whether the order of first singleton requests must be recorded
    */
-  private Injector(InjectorReference injectorReference, Map<Key<?>, Node<?>> providers) {
+  private Injector(
+      InjectorReference injectorReference,
+      Map<Key<?>, Node<?>> providers,
+      List<Key<?>> orderedKeys,
+      Collection<Key<?>> prunedKeys,
+      boolean validated,
+      boolean profiled,
+      boolean recorded) {
     injectorReference.set(this);
 
-    this.providers = Map.copyOf(providers);
+    this.providers = Collections.unmodifiableMap(providers);
+    this.keys = orderedKeys.toArray(new Key<?>[0]);
+    this.ids = assignIds(this.keys);
+    this.timings = profiled ? new ConcurrentHashMap<>() : null;
+    this.resolutionOrder = recorded ? new ConcurrentLinkedQueue<>() : null;
+    this.nodes = new Node<?>[keys.length];
+    final var timedCreations = new AtomicInteger();
+    for (int id = 0; id < keys.length; id++) {
+      final var node = Objects.requireNonNull(this.providers.get(keys[id]));
+      final var order =
+          resolutionOrder != null && isCreatedSingleton(node) ? resolutionOrder : null;
+      nodes[id] =
+          (timings == null && order == null)
+                  || node instanceof Value<?>
+                  || node instanceof RefersTo<?>
+              ? node
+              : new InstrumentedNode<>(
+                  injectorReference, keys[id], node, timings, timedCreations, order);
+    }
+    this.resolvedNodes = resolveReferences(this.ids, this.nodes);
     this.currentInjector = new Value<>(injectorReference, Injector.this);
+    this.classNodes = new ConcurrentHashMap<>();
     this.closed = new AtomicBoolean(false);
+    this.closeLock = new ReentrantLock();
+    this.prunedKeys =
+        prunedKeys.stream().sorted(KEY_COMPARATOR).collect(Collectors.toUnmodifiableList());
+    this.validatedIds = validated ? null : new AtomicIntegerArray(keys.length);
+
+    // Linking inside the constructor keeps resolved references covered by final field semantics
+    if (validated) {
+      for (Node<?> node : this.nodes) {
+        node.link();
+      }
+    }
   }
 
   /**
@@ -137,6 +267,8 @@ public final class Injector implements Closeable {
    *
    * <p>This call will also create all required dependencies for this class.
    *
+   * <p>Resolved nodes are cached per class, so that repeated calls do not build {@link Key}s.
+   *
    * @param clazz to retrieve
    * @param <T> is the type of the instance
    * @return initialized instance
@@ -147,7 +279,13 @@ public final class Injector implements Closeable {
       throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Class"));
     }
 
-    final var node = getNode(new Key<>(clazz, getQualifierAnnotations(clazz.getAnnotations())));
+    @SuppressWarnings("unchecked")
+    var node = (Node<T>) classNodes.get(clazz);
+    if (node == null) {
+      node = getNode(ClassMetadata.of(clazz).key);
+      classNodes.putIfAbsent(clazz, node);
+    }
+
     return node.get();
   }
 
@@ -173,6 +311,118 @@ public final class Injector implements Closeable {
     return node.get();
   }
 
+  /**
+   * Retrieve fully initialized instance of the class asynchronously on the {@link
+   * ForkJoinPool#commonPool()}.
+   *
+   * @param clazz to retrieve
+   * @param <T> is the type of the instance
+   * @return a {@link CompletableFuture} of the initialized instance
+   * @see #getAsync(Key, Executor)
+   */
+  public <T> CompletableFuture<T> getAsync(@Nullable Class<T> clazz) {
+    return getAsync(clazz, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Retrieve fully initialized instance of the class asynchronously.
+   *
+   * @param clazz to retrieve
+   * @param executor to create instances on
+   * @param <T> is the type of the instance
+   * @return a {@link CompletableFuture} of the initialized instance
+   * @throws IllegalArgumentException if any argument is {@code null}
+   * @see #getAsync(Key, Executor)
+   */
+  public <T> CompletableFuture<T> getAsync(@Nullable Class<T> clazz, @Nullable Executor executor) {
+    if (clazz == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Class"));
+    }
+
+    return getAsync(ClassMetadata.of(clazz).key, executor);
+  }
+
+  /**
+   * Retrieve fully initialized instance of the key asynchronously on the {@link
+   * ForkJoinPool#commonPool()}.
+   *
+   * @param key to retrieve
+   * @param <T> is the type of the instance
+   * @return a {@link CompletableFuture} of the initialized instance
+   * @see #getAsync(Key, Executor)
+   */
+  public <T> CompletableFuture<T> getAsync(@Nullable Key<T> key) {
+    return getAsync(key, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Retrieve fully initialized instance of the key asynchronously.
+   *
+   * <p>Singletons the instance depends on, directly or transitively, are created concurrently as
+   * soon as their own dependencies are available, while the instance itself is created once all of
+   * them are. Singletons remain created at most once, even if requested concurrently.
+   *
+   * @param key to retrieve
+   * @param executor to create instances on
+   * @param <T> is the type of the instance
+   * @return a {@link CompletableFuture} of the initialized instance, completed exceptionally if any
+   *     instance cannot be created
+   * @throws IllegalArgumentException if any argument is {@code null}
+   * @throws NoSuchElementException if dependency for the key is not present
+   */
+  public <T> CompletableFuture<T> getAsync(@Nullable Key<T> key, @Nullable Executor executor) {
+    if (key == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Key"));
+    }
+
+    if (executor == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Executor"));
+    }
+
+    final var node = getNode(key);
+    final var id = ids.get(key);
+    if (id == null) {
+      return CompletableFuture.completedFuture(node.get());
+    }
+
+    // Dependencies always have lower ids, so ascending order visits them first
+    final var subgraph = new TreeSet<Integer>();
+    final var pending = new ArrayDeque<Integer>();
+    pending.push(id);
+    while (!pending.isEmpty()) {
+      final int current = pending.pop();
+      if (subgraph.add(current)) {
+        for (Key<?> parentKey : nodes[current].requiredParentKeys()) {
+          final var parentId = ids.get(parentKey);
+          if (parentId != null) {
+            pending.push(parentId);
+          }
+        }
+      }
+    }
+
+    final var readiness = new HashMap<Integer, CompletableFuture<Void>>(subgraph.size());
+    for (int current : subgraph) {
+      final var parentReadiness = new ArrayList<CompletableFuture<Void>>();
+      for (Key<?> parentKey : nodes[current].requiredParentKeys()) {
+        final var parentId = ids.get(parentKey);
+        if (parentId != null) {
+          parentReadiness.add(Objects.requireNonNull(readiness.get(parentId)));
+        }
+      }
+
+      var ready = CompletableFuture.allOf(parentReadiness.toArray(new CompletableFuture<?>[0]));
+      if (current != id && isCreatedSingleton(nodes[current])) {
+        final var singleton = nodes[current];
+        ready = ready.thenRunAsync(singleton::get, executor);
+      }
+
+      readiness.put(current, ready);
+    }
+
+    return Objects.requireNonNull(readiness.get(id)).thenApplyAsync(ready -> node.get(), executor);
+  }
+
   /**
    * Find if {@link Injector} has an instance of specified class with certain annotations and their
    * values.
@@ -257,6 +507,78 @@ public final class Injector implements Closeable {
     return findAll(clazz, KeyAnnotationsPredicate.alwaysMatch());
   }
 
+  /**
+   * Reports registrations dropped by {@link Builder#build()}, because none of the {@link
+   * Builder#roots(Key, Key[])} depend on them.
+   *
+   * @return an immutable sorted {@link List} of {@link Key}s which were registered in the builder,
+   *     but are not available in this injector
+   */
+  @SuppressWarnings("squid:S1452")
+  public List<Key<?>> prunedKeys() {
+    return prunedKeys;
+  }
+
+  /**
+   * Reports how long the first creation of each node took so far, together with the critical path
+   * of dependencies which took the longest to create one after another.
+   *
+   * <p>Only nodes created before this call are reported, so that it is usually called once the
+   * application has started.
+   *
+   * @return a snapshot of the recorded timings
+   * @throws IllegalStateException if the injector was built without {@link
+   *     Builder#profiling(boolean)}
+   */
+  public StartupProfile profile() {
+    final var recorded = timings;
+    if (recorded == null) {
+      throw new IllegalStateException(PROFILING_DISABLED);
+    }
+
+    final var ordered = new ArrayList<StartupProfile.Timing>();
+    final var pathTimes = new long[keys.length];
+    final var previousIds = new int[keys.length];
+    int lastId = -1;
+
+    // Parents always have lower ids, so a single pass sees every path to a node before the node
+    for (int id = 0; id < keys.length; id++) {
+      final var timing = recorded.get(keys[id]);
+      if (timing != null) {
+        ordered.add(timing);
+      }
+
+      previousIds[id] = -1;
+      // Provider edges do not create the dependency along with the node, so they are not followed
+      for (Key<?> parentKey : nodes[id].requiredParentKeys()) {
+        final var parentId = ids.get(parentKey);
+        if (parentId != null
+            && parentId < id
+            && (previousIds[id] == -1 || pathTimes[parentId] > pathTimes[previousIds[id]])) {
+          previousIds[id] = parentId;
+        }
+      }
+
+      pathTimes[id] =
+          (timing == null ? 0L : timing.getSelfTime().toNanos())
+              + (previousIds[id] == -1 ? 0L : pathTimes[previousIds[id]]);
+      if (timing != null && (lastId == -1 || pathTimes[id] > pathTimes[lastId])) {
+        lastId = id;
+      }
+    }
+
+    final var criticalPath = new ArrayList<StartupProfile.Timing>();
+    for (int id = lastId; id != -1; id = previousIds[id]) {
+      final var timing = recorded.get(keys[id]);
+      if (timing != null) {
+        criticalPath.add(timing);
+      }
+    }
+    Collections.reverse(criticalPath);
+
+    return new StartupProfile(ordered, criticalPath);
+  }
+
   /**
    * Package-private retriever of specific nodes to be used in {@link #providers} via {@link
    * InjectorReference}.
@@ -272,219 +594,1215 @@ public final class Injector implements Closeable {
       return (Node<T>) currentInjector;
     }
 
-    if (providers.containsKey(key)) {
-      return (Node<T>) providers.get(key);
+    final var id = ids.get(key);
+    if (id != null) {
+      if (validatedIds != null && validatedIds.get(id) == 0) {
+        validate(validatedIds, id);
+      }
+
+      return (Node<T>) resolvedNodes[id];
     } else {
       throw new NoSuchElementException(String.format(MISSING_VALUE_TEMPLATE, key));
     }
   }
 
   /**
-   * @return a {@link Builder} instance to construct {@link Injector}
-   */
-  public static Builder injector() {
-    return new Builder();
-  }
-
-  /**
-   * @return a {@link CopyBuilder} instance to modify {@link Injector}
+   * Creates every singleton ahead of the first use, level by level.
+   *
+   * <p>Levels follow the topological order of the keys: a singleton belongs to the level after the
+   * highest level of its required dependencies, so singletons within a level do not depend on each
+   * other and are created concurrently.
+   *
+   * <p>The first singleton to fail is reported as soon as it fails, without waiting for the rest of
+   * its level. Singletons of that level which are still being created are closed once they finish.
+   *
+   * @param executor to create singletons on
+   * @throws IllegalStateException if any singleton cannot be created, after the injector is closed
    */
-  public CopyBuilder copy() {
-    return new CopyBuilder(this);
-  }
+  private void createSingletons(Executor executor) {
+    final var levels = new int[keys.length];
+    final var waves = new ArrayList<List<Key<?>>>();
+
+    for (int id = 0; id < keys.length; id++) {
+      int level = 0;
+      for (Key<?> parentKey : nodes[id].requiredParentKeys()) {
+        final var parentId = ids.get(parentKey);
+        if (parentId != null && parentId < id) {
+          level = Math.max(level, levels[parentId] + 1);
+        }
+      }
 
-  /** {@inheritDoc} */
-  @Override
-  public void close() {
-    if (!closed.compareAndSet(false, true)) {
-      return;
-    }
+      levels[id] = level;
 
-    final var keys = topologicallySortedKeys(providers);
+      if (isCreatedSingleton(nodes[id])) {
+        while (waves.size() <= level) {
+          waves.add(new ArrayList<>());
+        }
 
-    // Going in the reverse order to close dependencies
-    for (int i = keys.size() - 1; i >= 0; i--) {
-      try {
-        getNode(keys.get(i)).close();
-      } catch (IOException e) {
-        throw new UncheckedIOException("Failed to close dependency: " + keys.get(i), e);
+        waves.get(level).add(keys[id]);
       }
     }
-  }
 
-  /** {@inheritDoc} */
-  @Override
-  public boolean equals(@Nullable Object o) {
-    if (!(o instanceof Injector)) return false;
-    Injector injector = (Injector) o;
-    return Objects.equals(providers, injector.providers);
-  }
+    final var firstFailure = new CompletableFuture<Void>();
+    final var creations = new ArrayList<CompletableFuture<?>>();
+
+    try {
+      for (List<Key<?>> wave : waves) {
+        creations.clear();
+        for (Key<?> key : wave) {
+          final var creation = CompletableFuture.runAsync(() -> createSingleton(key), executor);
+          creation.whenComplete(
+              (ignored, creationFailure) -> {
+                if (creationFailure != null) {
+                  firstFailure.completeExceptionally(creationFailure);
+                }
+              });
+          creations.add(creation);
+        }
 
-  /** {@inheritDoc} */
-  @Override
-  public int hashCode() {
-    return Objects.hash(providers);
-  }
+        final var level = CompletableFuture.allOf(creations.toArray(new CompletableFuture<?>[0]));
+        CompletableFuture.anyOf(level, firstFailure).join();
+      }
+    } catch (RuntimeException e) {
+      final var failure =
+          e instanceof CompletionException && e.getCause() instanceof IllegalStateException
+              ? (IllegalStateException) e.getCause()
+              : e;
+
+      // Singletons still being created are closed by the last of them to finish
+      final var level = CompletableFuture.allOf(creations.toArray(new CompletableFuture<?>[0]));
+      if (level.isDone()) {
+        try {
+          close();
+        } catch (RuntimeException closeFailure) {
+          failure.addSuppressed(closeFailure);
+        }
+      } else {
+        level.whenComplete((ignored, creationFailure) -> close());
+      }
 
-  /** {@inheritDoc} */
-  @Override
-  public String toString() {
-    return String.format(
-        "injector:%s",
-        providers.isEmpty()
-            ? ConsoleConstants.YAML_EMPTY_ARRAY
-            : String.format(
-                "%n%s",
-                topologicallySortedKeys(providers).stream()
-                    .map(
-                        key ->
-                            String.format(
-                                "%s%n%s",
-                                key.toYamlString(true, 1),
-                                Objects.requireNonNull(providers.get(key)).toYamlString(2)))
-                    .collect(Collectors.joining(String.format("%n%n")))));
+      throw failure;
+    }
   }
 
   /**
-   * Checks whether the key represents the injector's built-in unqualified self-reference.
-   *
-   * @param key to check
-   * @return {@code true} if the key requests {@link Injector} without qualifier annotations
+   * @param node to check
+   * @return {@code true} if the node creates a singleton instance itself
    */
-  private static boolean isUnqualifiedInjectorKey(Key<?> key) {
-    return Injector.class.equals(key.type()) && key.annotations().isEmpty();
+  private boolean isCreatedSingleton(Node<?> node) {
+    return !(node instanceof Value<?>)
+        && !(node instanceof RefersTo<?>)
+        && isSingletonScoped(providers, node);
   }
 
   /**
-   * Identify annotations marked as {@link Qualifier}.
-   *
-   * @param annotations to filter
-   * @return an immutable {@link Set} of {@link Qualifier} annotations
+   * @param key of the singleton to create
+   * @throws IllegalStateException if the singleton cannot be created
    */
-  private static Set<Annotation> getQualifierAnnotations(Annotation[] annotations) {
-    if (annotations.length == 0) {
-      return Set.of();
+  private void createSingleton(Key<?> key) {
+    try {
+      InstrumentedNode.createAheadOfUse(() -> getNode(key).get());
+    } catch (RuntimeException e) {
+      throw new IllegalStateException(String.format(SINGLETON_FAILURE_TEMPLATE, key), e);
     }
+  }
 
-    final var qualifierAnnotations = new HashSet<Annotation>(annotations.length);
-    for (Annotation annotation : annotations) {
-      if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
-        qualifierAnnotations.add(annotation);
+  /**
+   * Validates every node of the injector, which was built with {@link Validation#LAZY}.
+   *
+   * <p>Useful in tests and CI, to verify the whole graph which is otherwise validated only as far
+   * as it is used.
+   *
+   * @return current injector
+   * @throws IllegalStateException if the dependency graph does not contain the required dependency
+   *     or contains a captive dependency
+   */
+  public Injector validateAll() {
+    if (validatedIds != null) {
+      for (int id = 0; id < keys.length; id++) {
+        if (validatedIds.get(id) == 0) {
+          validate(validatedIds, id);
+        }
       }
     }
 
-    return Set.copyOf(qualifierAnnotations);
+    return this;
   }
 
   /**
-   * Defines algorithm to topologically sort providers map to ease YAML inspection output.
-   *
-   * <p>Due to sorting, related entities should be brought closed together.
+   * Validates the node and its direct and transitive dependencies, caching successful results.
    *
-   * <p>At the very least, this will ensure that root dependencies will be closer to the top of the
-   * list.
-   *
-   * @param providers dependency graph nodes keyed by injectable keys
-   * @return topologically sorted dependencies.
+   * @param validatedIds marks of already validated nodes
+   * @param id of the node to validate
+   * @throws IllegalStateException if the dependency graph does not contain the required dependency
+   *     or contains a captive dependency
    */
-  private static List<Key<?>> topologicallySortedKeys(Map<Key<?>, Node<?>> providers) {
-    final var inDegreeMap = new HashMap<Key<?>, Integer>(providers.size());
-    final var childrenByParent = new HashMap<Key<?>, List<Key<?>>>(providers.size());
+  private void validate(AtomicIntegerArray validatedIds, int id) {
+    final var visited = new HashSet<Integer>();
+    final var pending = new ArrayDeque<Integer>();
+    pending.push(id);
+
+    while (!pending.isEmpty()) {
+      final int current = pending.pop();
+      if (validatedIds.get(current) != 0 || !visited.add(current)) {
+        continue;
+      }
 
-    for (Key<?> key : providers.keySet()) {
-      childrenByParent.put(key, new ArrayList<>());
-    }
+      final var missingKey = findMissingDependency(providers, nodes[current]);
+      if (missingKey != null) {
+        throw new IllegalStateException(String.format(MISSING_VALUE_TEMPLATE, missingKey));
+      }
 
-    for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
-      int inbound = 0;
+      final var captiveKey = findCaptiveDependency(providers, keys[current], nodes[current]);
+      if (captiveKey != null) {
+        throw new IllegalStateException(captiveDependencyMessage(keys[current], captiveKey));
+      }
 
-      for (Key<?> parent : entry.getValue().requiredParentKeys()) {
-        if (providers.containsKey(parent)) {
-          inbound++;
-          Objects.requireNonNull(childrenByParent.get(parent)).add(entry.getKey());
+      for (Key<?> parentKey : nodes[current].parentKeys()) {
+        final var parentId = ids.get(parentKey);
+        if (parentId != null) {
+          pending.push(parentId);
         }
       }
+    }
 
-      inDegreeMap.put(entry.getKey(), inbound);
+    // Marked only once the whole subgraph is valid, so that failures are reported on every use
+    for (int validatedId : visited) {
+      validatedIds.set(validatedId, 1);
     }
 
-    for (List<Key<?>> children : childrenByParent.values()) {
-      children.sort(KEY_COMPARATOR);
+    // Linked after marking, so that dependencies are resolved without being validated again
+    for (int validatedId : visited) {
+      nodes[validatedId].link();
     }
+  }
 
-    final var nodesWithNoIncomingEdges = new PriorityQueue<>(KEY_COMPARATOR);
-    for (Map.Entry<Key<?>, Integer> entry : inDegreeMap.entrySet()) {
-      if (entry.getValue() == 0) {
-        nodesWithNoIncomingEdges.add(entry.getKey());
-      }
+  /**
+   * Assigns dense ids to the keys.
+   *
+   * @param keys ordered by their future ids
+   * @return an immutable index from key to its id
+   */
+  static Map<Key<?>, Integer> assignIds(Key<?>[] keys) {
+    final var ids = new HashMap<Key<?>, Integer>(keys.length);
+
+    for (int id = 0; id < keys.length; id++) {
+      ids.put(keys[id], id);
     }
 
-    final var topologicalOrder = new ArrayList<Key<?>>(providers.size());
-    while (!nodesWithNoIncomingEdges.isEmpty()) {
-      final var key = nodesWithNoIncomingEdges.poll();
-      topologicalOrder.add(key);
+    return Map.copyOf(ids);
+  }
 
-      for (Key<?> child : Objects.requireNonNull(childrenByParent.get(key))) {
-        final int previous = Objects.requireNonNull(inDegreeMap.get(child));
+  /**
+   * Creates a node table where every {@link RefersTo} node left by replacements is substituted with
+   * the final node of its reference chain, so that replaced keys resolve in a single lookup.
+   *
+   * @param ids of the keys
+   * @param nodes indexed by ids
+   * @return a new node table indexed by ids
+   */
+  private static Node<?>[] resolveReferences(Map<Key<?>, Integer> ids, Node<?>[] nodes) {
+    final var resolved = new Node<?>[nodes.length];
 
-        if (previous > 0) {
-          final int updated = previous - 1;
-          inDegreeMap.put(child, updated);
+    for (int id = 0; id < nodes.length; id++) {
+      Node<?> current = nodes[id];
 
-          if (updated == 0) {
-            nodesWithNoIncomingEdges.add(child);
-          }
+      while (current instanceof RefersTo) {
+        final var targetId = ids.get(current.parentKeys().iterator().next());
+        if (targetId == null) {
+          // Reference to the injector itself is resolved by the node at runtime
+          break;
         }
+
+        current = nodes[targetId];
       }
+
+      resolved[id] = current;
     }
 
-    return List.copyOf(topologicalOrder);
+    return resolved;
   }
 
   /**
-   * Creates deterministic string representation of key annotations for sorting.
+   * Replaces references to already created singletons and values with their instances in every
+   * dependent node, so that later instantiations read them directly instead of calling the
+   * singleton nodes.
    *
-   * @param key to create annotation sort value for
-   * @return deterministic annotation sort value
+   * <p>Singletons created after this call are not captured, so it is best called after the
+   * application warm-up. Can be called multiple times to capture newly created singletons. Captured
+   * singletons count as requested for {@link #saveWarmUpProfile(Path)}. Under {@link
+   * Validation#LAZY}, only nodes validated so far are frozen.
+   *
+   * @return current injector
+   * @throws IllegalStateException if the injector is closed
    */
-  private static String annotationSortValue(Key<?> key) {
-    return key.annotations().stream()
-        .sorted(ANNOTATION_COMPARATOR)
-        .map(Annotation::toString)
-        .collect(Collectors.joining("\n"));
+  public Injector freeze() {
+    if (closed.get()) {
+      throw new IllegalStateException("Injector is closed");
+    }
+
+    for (Node<?> node : providers.values()) {
+      node.freeze();
+    }
+
+    return this;
   }
 
-  private static final class AdjustedNode<T> extends Node<T> {
-    private final Node<T> delegate;
-    private final BiConsumer<Injector, ? super T> adjuster;
+  /**
+   * Writes the structure of this injector to a compact binary snapshot, which {@link
+   * Builder#load(Path)} turns back into an {@link Injector} without scanning classes and validating
+   * the graph again.
+   *
+   * <p>Only the structure is written: objects must be added to the loading {@link Builder} again
+   * and created singletons are not persisted. The snapshot carries fingerprints of the class files
+   * involved and is rejected once any of them changes.
+   *
+   * <p>Classes from JARs are fingerprinted by the contents of the JAR. Classes loaded from
+   * directories are fingerprinted by the size and the modification time of their class file only,
+   * so that a class file rebuilt with the same size and a normalized modification time is not
+   * detected.
+   *
+   * @param path to write the snapshot to, replaced if it exists
+   * @throws IllegalArgumentException if path is {@code null}
+   * @throws IllegalStateException if the graph contains post-construction adjusters, which cannot
+   *     be written
+   * @throws UncheckedIOException if the snapshot cannot be written
+   */
+  public void save(@Nullable Path path) {
+    if (path == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Path"));
+    }
+
+    final var entries = new ArrayList<GraphSnapshot.Entry>(keys.length);
+    for (int id = 0; id < keys.length; id++) {
+      entries.add(snapshotEntry(keys[id], nodes[id]));
+    }
+
+    GraphSnapshot.write(path, entries);
+  }
+
+  /**
+   * Writes the order in which singletons of this injector were first requested, which {@link
+   * Builder#warmUpProfile(Path, Executor)} replays on the next start.
+   *
+   * <p>Singletons created ahead of use by the warm-up or by {@link
+   * Builder#eagerSingletons(Executor)} are written only once something requests them, so that
+   * singletons which are no longer used drop out of the profile.
+   *
+   * @param path to write the profile to, replaced if it exists
+   * @throws IllegalArgumentException if path is {@code null}
+   * @throws IllegalStateException if the injector was built without {@link
+   *     Builder#warmUpProfile(Path, Executor)}
+   * @throws UncheckedIOException if the profile cannot be written
+   */
+  public void saveWarmUpProfile(@Nullable Path path) {
+    if (path == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Path"));
+    }
+
+    final var order = resolutionOrder;
+    if (order == null) {
+      throw new IllegalStateException(WARM_UP_DISABLED);
+    }
+
+    WarmUpProfile.write(
+        path, order.stream().map(Injector::keySignature).collect(Collectors.toList()));
+  }
+
+  /**
+   * Creates singletons recorded by {@link #saveWarmUpProfile(Path)} in the recorded order.
+   *
+   * <p>Creation joins the one in flight when a singleton is requested concurrently. Keys which are
+   * no longer registered are skipped, as well as singletons which fail, so that they fail again
+   * once requested. Profiles which cannot be read are skipped as a whole, as well as the warm-up
+   * rejected by the executor: warm-up is an optimization and must not fail the build.
+   *
+   * @param path to read the profile from, skipped if it does not exist
+   * @param executor to create singletons on
+   */
+  private void replayWarmUp(Path path, Executor executor) {
+    if (!Files.exists(path)) {
+      return;
+    }
+
+    final var signatureIds = new HashMap<String, Integer>(keys.length);
+    for (int id = 0; id < keys.length; id++) {
+      signatureIds.put(keySignature(keys[id]), id);
+    }
+
+    final List<String> signatures;
+    try {
+      signatures = WarmUpProfile.read(path);
+    } catch (IllegalArgumentException | UncheckedIOException e) {
+      return;
+    }
+
+    final var recordedKeys = new ArrayList<Key<?>>();
+    for (String signature : signatures) {
+      final var id = signatureIds.get(signature);
+      if (id != null && isCreatedSingleton(nodes[id])) {
+        recordedKeys.add(keys[id]);
+      }
+    }
+
+    if (!recordedKeys.isEmpty()) {
+      try {
+        executor.execute(() -> InstrumentedNode.createAheadOfUse(() -> replay(recordedKeys)));
+      } catch (RejectedExecutionException e) {
+        // Singletons are created once requested instead
+      }
+    }
+  }
+
+  /**
+   * Creates each singleton under {@link #closeLock}, so that {@link #close()} either waits for it
+   * and closes it, or stops the replay before it is created.
+   *
+   * @param recordedKeys of the singletons to create, in order
+   */
+  private void replay(List<Key<?>> recordedKeys) {
+    for (Key<?> key : recordedKeys) {
+      closeLock.lock();
+      try {
+        if (closed.get()) {
+          return;
+        }
+
+        getNode(key).get();
+      } catch (RuntimeException e) {
+        // Failure is not memoized, the request which actually needs the singleton reports it
+      } finally {
+        closeLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Describes a node for {@link #save(Path)}.
+   *
+   * @param key of the node
+   * @param instrumentedNode to describe, unwrapped if instrumented
+   * @return snapshot entry of the node
+   * @throws IllegalStateException if the node cannot be written
+   */
+  private GraphSnapshot.Entry snapshotEntry(Key<?> key, Node<?> instrumentedNode) {
+    final var node = InstrumentedNode.unwrap(instrumentedNode);
+    final var signature = keySignature(key);
+
+    if (node instanceof Value<?>) {
+      return new GraphSnapshot.Entry(
+          signature, GraphSnapshot.VALUE, key.type(), -1, null, List.of());
+    }
+
+    if (node instanceof RefersTo<?>) {
+      final var targetId = ids.get(node.parentKeys().iterator().next());
+      if (targetId != null) {
+        return new GraphSnapshot.Entry(
+            signature, GraphSnapshot.REFERS_TO, key.type(), targetId, null, List.of());
+      }
+    }
+
+    if (node instanceof ConstructsNew<?>) {
+      final var constructsNode = (ConstructsNew<?>) node;
+      return new GraphSnapshot.Entry(
+          signature,
+          node instanceof ConstructsSingleton<?>
+              ? GraphSnapshot.CONSTRUCTS_SINGLETON
+              : GraphSnapshot.CONSTRUCTS_NEW,
+          key.type(),
+          -1,
+          constructsNode.getConstructor(),
+          snapshotFields(constructsNode));
+    }
+
+    if (node instanceof ProvidesNew<?>) {
+      final var providesNode = (ProvidesNew<?>) node;
+      return new GraphSnapshot.Entry(
+          signature,
+          node instanceof ProvidesSingleton<?>
+              ? GraphSnapshot.PROVIDES_SINGLETON
+              : GraphSnapshot.PROVIDES_NEW,
+          providesNode.getClassKey().type(),
+          -1,
+          providesNode.getMethod(),
+          snapshotFields(providesNode));
+    }
+
+    throw new IllegalStateException(String.format(NOT_SNAPSHOTTABLE_TEMPLATE, key));
+  }
+
+  /**
+   * @param node to describe fields of
+   * @return injectable fields of the node
+   */
+  private static List<Field> snapshotFields(ReflectionNode<?> node) {
+    final var fields = new ArrayList<Field>(node.fieldsInformation().size());
+    for (FieldInformation fieldInformation : node.fieldsInformation()) {
+      fields.add(fieldInformation.getField());
+    }
+
+    return fields;
+  }
+
+  /**
+   * Creates deterministic string representation of the key to detect changed qualifiers in
+   * snapshots.
+   *
+   * @param key to create signature for
+   * @return deterministic key signature
+   */
+  private static String keySignature(Key<?> key) {
+    return key.type().getName() + '\n' + annotationSortValue(key);
+  }
+
+  /**
+   * @return a {@link Builder} instance to construct {@link Injector}
+   */
+  public static Builder injector() {
+    return new Builder();
+  }
+
+  /**
+   * Scans classes ahead of time, so that builders reuse their reflection metadata.
+   *
+   * <p>Metadata is cached per class for the whole process and shared by every {@link Builder} and
+   * {@link CopyBuilder}. The cache is backed by {@link ClassValue} and does not prevent classes
+   * from being unloaded.
+   *
+   * @param clazz to scan
+   * @param additionalClasses to scan
+   * @throws IllegalArgumentException if any class is {@code null} or cannot be added to the {@link
+   *     Builder}
+   */
+  public static void warmUp(@Nullable Class<?> clazz, Class<?> @Nullable ... additionalClasses) {
+    warmUpClass(clazz);
+
+    if (additionalClasses != null) {
+      for (Class<?> additionalClass : additionalClasses) {
+        warmUpClass(additionalClass);
+      }
+    }
+  }
+
+  /**
+   * Discards reflection metadata cached by {@link #warmUp(Class, Class[])} and previous builds.
+   *
+   * <p>Compile-time {@link ClassIndex}es are loaded again on next use as well, and so are JAR
+   * fingerprints of graph snapshots.
+   *
+   * <p>Useful when classes are redefined at runtime, for example by hot reload agents.
+   */
+  public static void clearMetadataCache() {
+    ClassIndexes.reload();
+    GraphSnapshot.reload();
+    metadataCache = newMetadataCache();
+  }
+
+  /**
+   * @return a {@link CopyBuilder} instance to modify {@link Injector}
+   */
+  public CopyBuilder copy() {
+    return new CopyBuilder(this);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() {
+    if (!markClosed()) {
+      return;
+    }
+
+    // Going in the reverse order to close dependencies
+    for (int id = nodes.length - 1; id >= 0; id--) {
+      try {
+        // Replaced keys are not resolved here to avoid closing their targets twice
+        nodes[id].close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close dependency: " + keys[id], e);
+      }
+    }
+  }
+
+  /**
+   * Marks the injector closed, waiting for the singleton warm-up is creating, if any.
+   *
+   * @return {@code true} if this call closed the injector, {@code false} if it was closed already
+   */
+  private boolean markClosed() {
+    closeLock.lock();
+    try {
+      return closed.compareAndSet(false, true);
+    } finally {
+      closeLock.unlock();
+    }
+  }
+
+  /**
+   * Closes dependencies concurrently, continuing past failures, unlike {@link #close()}.
+   *
+   * <p>Dependencies are closed level by level in the reverse dependency order: a dependency is
+   * closed only after every dependency requiring it, while dependencies within a level are closed
+   * concurrently on the provided {@link Executor}.
+   *
+   * <p>Each dependency is given the timeout to close, counted from the moment the executor starts
+   * closing it, so that dependencies waiting in the executor queue do not time out. A dependency
+   * which times out is reported as failed and left closing in the background. A dependency which
+   * does not start closing within the timeout for itself and for every dependency of its level
+   * queued ahead of it, for example because the executor is busy with dependencies which timed out,
+   * is reported as timed out as well, while a dependency which the executor rejects is reported as
+   * failed.
+   *
+   * @param executor to close dependencies on
+   * @param timeout for each dependency to close
+   * @throws IllegalArgumentException if any argument is {@code null} or timeout is negative
+   * @throws UncheckedIOException if any dependency fails or times out, with every failure attached
+   *     as a suppressed exception to its cause
+   */
+  public void closeConcurrently(@Nullable Executor executor, @Nullable Duration timeout) {
+    if (executor == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Executor"));
+    }
+
+    if (timeout == null || timeout.isNegative()) {
+      throw new IllegalArgumentException("Timeout is null or negative");
+    }
+
+    if (!markClosed()) {
+      return;
+    }
+
+    // Dependencies have lower ids, so descending order visits their consumers first
+    final var levels = new int[nodes.length];
+    final var waves = new ArrayList<List<Integer>>();
+    for (int id = nodes.length - 1; id >= 0; id--) {
+      for (Key<?> parentKey : nodes[id].requiredParentKeys()) {
+        final var parentId = ids.get(parentKey);
+        if (parentId != null && parentId < id) {
+          levels[parentId] = Math.max(levels[parentId], levels[id] + 1);
+        }
+      }
+
+      while (waves.size() <= levels[id]) {
+        waves.add(new ArrayList<>());
+      }
+
+      waves.get(levels[id]).add(id);
+    }
+
+    final long timeoutNanos = timeout.toNanos();
+    final var failure = new IOException("Failed to close dependencies");
+    for (List<Integer> wave : waves) {
+      final long waveStart = System.nanoTime();
+      final var starts = new ArrayList<CompletableFuture<Long>>(wave.size());
+      final var closings = new ArrayList<CompletableFuture<Void>>(wave.size());
+      for (int id : wave) {
+        final var node = nodes[id];
+        final var start = new CompletableFuture<Long>();
+        starts.add(start);
+        try {
+          closings.add(
+              CompletableFuture.runAsync(
+                  () -> {
+                    start.complete(System.nanoTime());
+                    closeUnchecked(node);
+                  },
+                  executor));
+        } catch (RejectedExecutionException e) {
+          start.complete(System.nanoTime());
+          closings.add(CompletableFuture.failedFuture(e));
+        }
+      }
+
+      // Every dependency of the level either closes or times out before the next level starts
+      for (int i = 0; i < closings.size(); i++) {
+        // Dependencies queued ahead may take the whole timeout each before this one starts
+        final long startTimeoutNanos =
+            timeoutNanos > Long.MAX_VALUE / (i + 1) ? Long.MAX_VALUE : timeoutNanos * (i + 1);
+        var cause =
+            awaitClosing(
+                starts.get(i),
+                startTimeoutNanos - (System.nanoTime() - waveStart),
+                closings.get(i),
+                timeoutNanos);
+        if (cause instanceof UncheckedIOException && cause.getCause() != null) {
+          cause = cause.getCause();
+        }
+
+        if (cause != null) {
+          failure.addSuppressed(
+              new IOException(
+                  (cause instanceof TimeoutException
+                          ? "Timed out closing dependency: "
+                          : "Failed to close dependency: ")
+                      + keys[wave.get(i)],
+                  cause));
+        }
+      }
+    }
+
+    if (failure.getSuppressed().length > 0) {
+      throw new UncheckedIOException(failure.getMessage(), failure);
+    }
+  }
+
+  /**
+   * Waits for a dependency to close, giving it the timeout from the moment it started closing.
+   *
+   * @param start completed with {@link System#nanoTime()} once the dependency starts closing
+   * @param startTimeoutNanos for the dependency to start closing
+   * @param closing of the dependency
+   * @param timeoutNanos for the dependency to close
+   * @return failure of the dependency, or {@code null} if it closed in time
+   */
+  private static @Nullable Throwable awaitClosing(
+      CompletableFuture<Long> start,
+      long startTimeoutNanos,
+      CompletableFuture<Void> closing,
+      long timeoutNanos) {
+    try {
+      final long deadline = start.get(startTimeoutNanos, TimeUnit.NANOSECONDS) + timeoutNanos;
+      closing.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (TimeoutException e) {
+      return e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return e;
+    }
+  }
+
+  /**
+   * @param node to close
+   * @throws UncheckedIOException if the node fails to close
+   */
+  private static void closeUnchecked(Node<?> node) {
+    try {
+      node.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (!(o instanceof Injector)) return false;
+    Injector injector = (Injector) o;
+    return Objects.equals(providers, injector.providers);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return Objects.hash(providers);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format(
+        "injector:%s",
+        providers.isEmpty()
+            ? ConsoleConstants.YAML_EMPTY_ARRAY
+            : String.format(
+                "%n%s",
+                IntStream.range(0, keys.length)
+                    .mapToObj(
+                        id ->
+                            String.format(
+                                "%s%n%s",
+                                keys[id].toYamlString(true, 1), nodes[id].toYamlString(2)))
+                    .collect(Collectors.joining(String.format("%n%n")))));
+  }
+
+  /**
+   * Checks whether the key represents the injector's built-in unqualified self-reference.
+   *
+   * @param key to check
+   * @return {@code true} if the key requests {@link Injector} without qualifier annotations
+   */
+  private static boolean isUnqualifiedInjectorKey(Key<?> key) {
+    return Injector.class.equals(key.type()) && key.annotations().isEmpty();
+  }
+
+  /**
+   * Looks for a dependency of the node which is not present in the dependency graph.
+   *
+   * @param graph to look dependencies up in
+   * @param node to check
+   * @return missing dependency key, or {@code null} if all dependencies are present
+   */
+  private static @Nullable Key<?> findMissingDependency(Map<Key<?>, Node<?>> graph, Node<?> node) {
+    for (Key<?> parentKey : node.parentKeys()) {
+      if (!isUnqualifiedInjectorKey(parentKey) && !graph.containsKey(parentKey)) {
+        return parentKey;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Looks for a non-singleton dependency the singleton-scoped node depends on directly.
+   *
+   * @param graph to look dependencies up in
+   * @param key of the node
+   * @param node to check
+   * @return captive dependency key, or {@code null} if there is none
+   */
+  private static @Nullable Key<?> findCaptiveDependency(
+      Map<Key<?>, Node<?>> graph, Key<?> key, Node<?> node) {
+    if (!isSingletonScoped(graph, node)) {
+      return null;
+    }
+
+    for (Key<?> parentKey : node.requiredParentKeys()) {
+      if (!mustSkipCaptiveDependencyCheck(graph, key, node, parentKey)
+          && !isSingletonScoped(graph, Objects.requireNonNull(graph.get(parentKey)))) {
+        return parentKey;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @param key of the singleton-scoped node
+   * @param parentKey of its non-singleton dependency
+   * @return captive dependency description
+   */
+  private static String captiveDependencyMessage(Key<?> key, Key<?> parentKey) {
+    return String.format(
+        CAPTIVE_DEPENDENCY_TEMPLATE,
+        key,
+        parentKey,
+        parentKey,
+        parentKey.type().getName(),
+        parentKey.type().getName());
+  }
+
+  /**
+   * Determines whether a dependency edge should be ignored by captive dependency validation.
+   *
+   * @param graph to look dependencies up in
+   * @param ownerKey key of the node whose dependency is checked
+   * @param ownerNode node whose dependency is checked
+   * @param parentKey dependency key to evaluate
+   * @return {@code true} if validation must skip the edge
+   */
+  private static boolean mustSkipCaptiveDependencyCheck(
+      Map<Key<?>, Node<?>> graph, Key<?> ownerKey, Node<?> ownerNode, Key<?> parentKey) {
+    if (isUnqualifiedInjectorKey(parentKey) || !graph.containsKey(parentKey)) {
+      return true;
+    }
+
+    final var node = InstrumentedNode.unwrap(ownerNode);
+    if (node instanceof ProvidesNew<?> && ((ProvidesNew<?>) node).getClassKey().equals(parentKey)) {
+      return true;
+    }
+
+    return AbstractBuilder.isNestedNonStaticClass(ownerKey.type())
+        && parentKey.type().equals(ownerKey.type().getEnclosingClass());
+  }
+
+  /**
+   * Checks whether the node is singleton-scoped.
+   *
+   * @param graph to look replacements up in
+   * @param instrumentedNode to check, unwrapped if instrumented
+   * @return {@code true} if the node is singleton-scoped
+   */
+  private static boolean isSingletonScoped(Map<Key<?>, Node<?>> graph, Node<?> instrumentedNode) {
+    final var node = InstrumentedNode.unwrap(instrumentedNode);
+    if (node instanceof RefersTo<?>) {
+      final var target = graph.get(node.parentKeys().iterator().next());
+      return target != null && isSingletonScoped(graph, target);
+    }
+
+    return node instanceof ConstructsSingleton<?>
+        || node instanceof ProvidesSingleton<?>
+        || node instanceof Value<?>
+        || (node instanceof AdjustedNode<?> && ((AdjustedNode<?>) node).singleton);
+  }
+
+  /**
+   * Scans a single class for {@link #warmUp(Class, Class[])}.
+   *
+   * @param clazz to scan
+   * @throws IllegalArgumentException if the class is {@code null} or cannot be added to the {@link
+   *     Builder}
+   */
+  private static void warmUpClass(@Nullable Class<?> clazz) {
+    if (clazz == null) {
+      throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Class"));
+    }
+
+    if (Modifier.isAbstract(clazz.getModifiers()) || Modifier.isInterface(clazz.getModifiers())) {
+      throw new IllegalArgumentException(NON_INSTANTIABLE_CLASS_TEMPLATE);
+    }
+
+    ClassMetadata.of(clazz).scan();
+  }
+
+  /**
+   * @return empty reflection metadata cache
+   */
+  private static ClassValue<ClassMetadata<?>> newMetadataCache() {
+    return new ClassValue<>() {
+      @Override
+      protected ClassMetadata<?> computeValue(Class<?> type) {
+        return new ClassMetadata<>(type);
+      }
+    };
+  }
+
+  /**
+   * Identify annotations marked as {@link Qualifier}.
+   *
+   * @param annotations to filter
+   * @return an immutable {@link Set} of {@link Qualifier} annotations
+   */
+  private static Set<Annotation> getQualifierAnnotations(Annotation[] annotations) {
+    if (annotations.length == 0) {
+      return Set.of();
+    }
+
+    final var qualifierAnnotations = new HashSet<Annotation>(annotations.length);
+    for (Annotation annotation : annotations) {
+      if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
+        qualifierAnnotations.add(annotation);
+      }
+    }
+
+    return Set.copyOf(qualifierAnnotations);
+  }
+
+  /**
+   * Defines algorithm to topologically sort providers map, which orders dense key ids, close calls
+   * and YAML inspection output.
+   *
+   * <p>Due to sorting, related entities should be brought closed together.
+   *
+   * <p>At the very least, this will ensure that root dependencies will be closer to the top of the
+   * list.
+   *
+   * @param providers dependency graph nodes keyed by injectable keys
+   * @return topologically sorted dependencies.
+   */
+  static List<Key<?>> topologicallySortedKeys(Map<Key<?>, Node<?>> providers) {
+    final var inDegreeMap = new HashMap<Key<?>, Integer>(providers.size());
+    final var childrenByParent = new HashMap<Key<?>, List<Key<?>>>(providers.size());
+
+    for (Key<?> key : providers.keySet()) {
+      childrenByParent.put(key, new ArrayList<>());
+    }
+
+    for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
+      int inbound = 0;
+
+      for (Key<?> parent : entry.getValue().requiredParentKeys()) {
+        if (providers.containsKey(parent)) {
+          inbound++;
+          Objects.requireNonNull(childrenByParent.get(parent)).add(entry.getKey());
+        }
+      }
+
+      inDegreeMap.put(entry.getKey(), inbound);
+    }
+
+    for (List<Key<?>> children : childrenByParent.values()) {
+      children.sort(KEY_COMPARATOR);
+    }
+
+    final var nodesWithNoIncomingEdges = new PriorityQueue<>(KEY_COMPARATOR);
+    for (Map.Entry<Key<?>, Integer> entry : inDegreeMap.entrySet()) {
+      if (entry.getValue() == 0) {
+        nodesWithNoIncomingEdges.add(entry.getKey());
+      }
+    }
+
+    final var topologicalOrder = new ArrayList<Key<?>>(providers.size());
+    while (!nodesWithNoIncomingEdges.isEmpty()) {
+      final var key = nodesWithNoIncomingEdges.poll();
+      topologicalOrder.add(key);
+
+      for (Key<?> child : Objects.requireNonNull(childrenByParent.get(key))) {
+        final int previous = Objects.requireNonNull(inDegreeMap.get(child));
+
+        if (previous > 0) {
+          final int updated = previous - 1;
+          inDegreeMap.put(child, updated);
+
+          if (updated == 0) {
+            nodesWithNoIncomingEdges.add(child);
+          }
+        }
+      }
+    }
+
+    if (topologicalOrder.size() < providers.size()) {
+      // Keys on a cycle never reach zero in-degree, keep them to not lose any node
+      final var unordered = new ArrayList<>(inDegreeMap.keySet());
+      unordered.removeAll(topologicalOrder);
+      unordered.sort(KEY_COMPARATOR);
+      topologicalOrder.addAll(unordered);
+    }
+
+    return List.copyOf(topologicalOrder);
+  }
+
+  /**
+   * Creates deterministic string representation of key annotations for sorting.
+   *
+   * @param key to create annotation sort value for
+   * @return deterministic annotation sort value
+   */
+  private static String annotationSortValue(Key<?> key) {
+    return key.annotations().stream()
+        .sorted(ANNOTATION_COMPARATOR)
+        .map(Annotation::toString)
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static final class AdjustedNode<T> extends Node<T> {
+    private final Node<T> delegate;
+    private final BiConsumer<Injector, ? super T> adjuster;
     private final boolean singleton;
     private final Supplier<T> supplier;
+    private @Nullable Injector injector;
+
+    /**
+     * Default constructor.
+     *
+     * @param injectorReference for dependency lookups
+     * @param delegate node to create and adjust values with
+     * @param adjuster to tweak created instances after injection
+     * @param singleton whether adjusted values must be memoized
+     */
+    private AdjustedNode(
+        InjectorReference injectorReference,
+        Node<T> delegate,
+        BiConsumer<Injector, ? super T> adjuster,
+        boolean singleton) {
+      super(injectorReference, delegate.parentKeys());
+
+      this.delegate = delegate;
+      this.adjuster = adjuster;
+      this.singleton = singleton;
+      this.supplier =
+          singleton ? Memoized.memoizedProvider(this::createAdjusted) : this::createAdjusted;
+    }
+
+    @Override
+    public T get() {
+      return supplier.get();
+    }
+
+    @Override
+    public Set<Key<?>> requiredParentKeys() {
+      return delegate.requiredParentKeys();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable T constant() {
+      return singleton ? ((Memoized<T>) supplier).orElse(null) : null;
+    }
+
+    @Override
+    public void link() {
+      delegate.link();
+      this.injector = injectorReference().get();
+    }
+
+    @Override
+    public void freeze() {
+      delegate.freeze();
+    }
+
+    @Override
+    public Node<T> copy(InjectorReference newInjector) {
+      return new AdjustedNode<>(newInjector, delegate.copy(newInjector), adjuster, singleton);
+    }
+
+    @Override
+    public String toYamlString(int indentationLevel) {
+      return delegate.toYamlString(indentationLevel);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (!(o instanceof AdjustedNode)) return false;
+      if (!super.equals(o)) return false;
+      AdjustedNode<?> that = (AdjustedNode<?>) o;
+      return singleton == that.singleton
+          && Objects.equals(delegate, that.delegate)
+          && Objects.equals(adjuster, that.adjuster);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), delegate, adjuster, singleton);
+    }
+
+    /**
+     * Creates value via delegate node and applies adjuster to it.
+     *
+     * @return adjusted value
+     */
+    private T createAdjusted() {
+      final var linkedInjector = injector;
+      final var instance = delegate.get();
+      adjuster.accept(
+          linkedInjector == null ? injectorReference().get() : linkedInjector, instance);
+      return instance;
+    }
+  }
+
+  /**
+   * Wrapper of the {@link Node} which times the first creation of its instance and records when it
+   * was first requested.
+   *
+   * <p>Time spent in nested instrumented nodes on the same thread is subtracted from the self time.
+   * Once the first creation is recorded, the node only delegates, unless another creation is being
+   * timed and may need the time spent in this node subtracted.
+   *
+   * @param <T> is the type of the instance
+   */
+  private static final class InstrumentedNode<T> extends Node<T> {
+    // Time spent in nested nodes by each node being created on the current thread
+    private static final ThreadLocal<ArrayDeque<long[]>> NESTED_TIMES =
+        ThreadLocal.withInitial(ArrayDeque::new);
+
+    // Marks threads creating instances nobody has requested yet
+    private static final ThreadLocal<Boolean> AHEAD_OF_USE =
+        ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Key<?> key;
+    private final Node<T> delegate;
+    private final @Nullable ConcurrentMap<Key<?>, StartupProfile.Timing> timings;
+    private final AtomicInteger timedCreations;
+    private final @Nullable Queue<Key<?>> resolutionOrder;
+    private final AtomicBoolean requested;
+    private volatile boolean timed;
 
     /**
      * Default constructor.
      *
      * @param injectorReference for dependency lookups
-     * @param delegate node to create and adjust values with
-     * @param adjuster to tweak created instances after injection
-     * @param singleton whether adjusted values must be memoized
+     * @param key of the node
+     * @param delegate node to create values with
+     * @param timings to record the first creation into, or {@code null} to skip timing
+     * @param timedCreations number of creations being timed, shared by every node of the injector
+     * @param resolutionOrder to append the key to on the first request, or {@code null} to skip
      */
-    private AdjustedNode(
+    private InstrumentedNode(
         InjectorReference injectorReference,
+        Key<?> key,
         Node<T> delegate,
-        BiConsumer<Injector, ? super T> adjuster,
-        boolean singleton) {
+        @Nullable ConcurrentMap<Key<?>, StartupProfile.Timing> timings,
+        AtomicInteger timedCreations,
+        @Nullable Queue<Key<?>> resolutionOrder) {
       super(injectorReference, delegate.parentKeys());
 
+      this.key = key;
       this.delegate = delegate;
-      this.adjuster = adjuster;
-      this.singleton = singleton;
-      this.supplier =
-          singleton ? Memoized.memoizedProvider(this::createAdjusted) : this::createAdjusted;
+      this.timings = timings;
+      this.timedCreations = timedCreations;
+      this.resolutionOrder = resolutionOrder;
+      this.requested = new AtomicBoolean(false);
+      this.timed = false;
+    }
+
+    /**
+     * Runs the creation without recording it as a request, since nobody has asked for the instances
+     * yet.
+     *
+     * @param creation to run
+     */
+    private static void createAheadOfUse(Runnable creation) {
+      AHEAD_OF_USE.set(Boolean.TRUE);
+      try {
+        creation.run();
+      } finally {
+        AHEAD_OF_USE.remove();
+      }
+    }
+
+    /**
+     * @param node to unwrap
+     * @return wrapped node, or the node itself if it is not instrumented
+     */
+    private static Node<?> unwrap(Node<?> node) {
+      return node instanceof InstrumentedNode<?> ? ((InstrumentedNode<?>) node).delegate : node;
     }
 
     @Override
     public T get() {
-      return supplier.get();
+      final var recordedTimings = timings;
+      final var instance =
+          recordedTimings == null || (timed && timedCreations.get() == 0)
+              ? delegate.get()
+              : timedGet(recordedTimings);
+
+      recordRequest();
+      return instance;
+    }
+
+    /** Appends the key to the resolution order, unless it is there already or not requested. */
+    private void recordRequest() {
+      if (resolutionOrder != null
+          && !requested.get()
+          && !AHEAD_OF_USE.get()
+          && requested.compareAndSet(false, true)) {
+        resolutionOrder.add(key);
+      }
+    }
+
+    /**
+     * @param timings to record the first creation into
+     * @return created instance
+     */
+    private T timedGet(ConcurrentMap<Key<?>, StartupProfile.Timing> timings) {
+      final var nestedTimes = NESTED_TIMES.get();
+      final var nestedTime = new long[1];
+      nestedTimes.push(nestedTime);
+
+      timedCreations.incrementAndGet();
+      final long start = System.nanoTime();
+      boolean created = false;
+      try {
+        final var instance = delegate.get();
+        created = true;
+        return instance;
+      } finally {
+        final long wallTime = System.nanoTime() - start;
+        nestedTimes.pop();
+        timedCreations.decrementAndGet();
+
+        final var parentNestedTime = nestedTimes.peek();
+        if (parentNestedTime != null) {
+          parentNestedTime[0] += wallTime;
+        }
+
+        if (created && !timed) {
+          timings.putIfAbsent(
+              key,
+              new StartupProfile.Timing(
+                  key,
+                  Duration.ofNanos(wallTime),
+                  Duration.ofNanos(Math.max(0L, wallTime - nestedTime[0])),
+                  Thread.currentThread().getName()));
+          timed = true;
+        }
+      }
     }
 
     @Override
@@ -492,9 +1810,30 @@ public final class Injector implements Closeable {
       return delegate.requiredParentKeys();
     }
 
+    @Override
+    public @Nullable T constant() {
+      final var instance = delegate.constant();
+      if (instance != null) {
+        // Frozen dependents use the captured instance without requesting it from this node again
+        recordRequest();
+      }
+
+      return instance;
+    }
+
+    @Override
+    public void link() {
+      delegate.link();
+    }
+
+    @Override
+    public void freeze() {
+      delegate.freeze();
+    }
+
     @Override
     public Node<T> copy(InjectorReference newInjector) {
-      return new AdjustedNode<>(newInjector, delegate.copy(newInjector), adjuster, singleton);
+      return delegate.copy(newInjector);
     }
 
     @Override
@@ -509,36 +1848,370 @@ public final class Injector implements Closeable {
 
     @Override
     public boolean equals(@Nullable Object o) {
-      if (!(o instanceof AdjustedNode)) return false;
+      if (!(o instanceof InstrumentedNode)) return false;
       if (!super.equals(o)) return false;
-      AdjustedNode<?> that = (AdjustedNode<?>) o;
-      return singleton == that.singleton
-          && Objects.equals(delegate, that.delegate)
-          && Objects.equals(adjuster, that.adjuster);
+      InstrumentedNode<?> that = (InstrumentedNode<?>) o;
+      return Objects.equals(key, that.key) && Objects.equals(delegate, that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), key, delegate);
+    }
+  }
+
+  /**
+   * Reflection metadata of a single class, shared by every builder in the process.
+   *
+   * <p>Each part is computed on first use. Failures are not cached, so that invalid classes keep
+   * failing with the same exception.
+   *
+   * <p>Classes described by a compile-time {@link ClassIndex} have their members looked up directly
+   * instead of being scanned. Descriptors whose members no longer match the class, e.g. after it
+   * was recompiled without the index, fall back to scanning.
+   *
+   * @param <T> is the type of the described class
+   */
+  private static final class ClassMetadata<T> {
+    private final Class<T> clazz;
+    private final Key<T> key;
+    private final Memoized<Constructor<T>> constructor;
+    private final Memoized<List<ParameterInformation>> constructorParameters;
+    private final Memoized<List<FieldInformation>> fields;
+    private final Memoized<Set<Method>> providerMethods;
+    private final ConcurrentMap<Method, List<ParameterInformation>> methodParameters;
+
+    /**
+     * Default constructor.
+     *
+     * @param clazz to describe
+     */
+    private ClassMetadata(Class<T> clazz) {
+      final var descriptor = ClassIndexes.find(clazz);
+
+      this.clazz = clazz;
+      this.key = Key.ofAnnotations(clazz, getQualifierAnnotations(clazz.getAnnotations()));
+      this.constructor =
+          Memoized.memoizedSupplier(
+              () -> {
+                final var indexed = indexedConstructor(clazz, descriptor);
+                return indexed == null ? AbstractBuilder.getInjectableConstructor(clazz) : indexed;
+              });
+      this.constructorParameters =
+          Memoized.memoizedSupplier(() -> AbstractBuilder.getParameters(constructor.get()));
+      this.fields =
+          Memoized.memoizedSupplier(
+              () -> {
+                final var indexed = indexedFields(descriptor);
+                return indexed == null ? AbstractBuilder.getFields(clazz) : indexed;
+              });
+      this.providerMethods =
+          Memoized.memoizedSupplier(
+              () -> {
+                final var indexed = indexedProviderMethods(descriptor);
+                return indexed == null ? AbstractBuilder.getProviderMethods(clazz) : indexed;
+              });
+      this.methodParameters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param clazz to describe
+     * @param <T> is the type of the described class
+     * @return cached metadata of the class
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ClassMetadata<T> of(Class<T> clazz) {
+      return (ClassMetadata<T>) metadataCache.get(clazz);
+    }
+
+    /**
+     * @return {@link Constructor} to create an instance of the class
+     * @throws IllegalArgumentException if there is no suitable constructor or if there is ambiguity
+     *     between constructors
+     */
+    private Constructor<T> constructor() {
+      return constructor.get();
+    }
+
+    /**
+     * @return parameters of the {@link #constructor()}
+     */
+    private List<ParameterInformation> constructorParameters() {
+      return constructorParameters.get();
+    }
+
+    /**
+     * @return injectable fields of the class and its superclasses
+     */
+    private List<FieldInformation> fields() {
+      return fields.get();
+    }
+
+    /**
+     * @return {@link Provides} methods of the class and its superclasses
+     */
+    private Set<Method> providerMethods() {
+      return providerMethods.get();
+    }
+
+    /**
+     * @param method declared by the class or its superclasses
+     * @return parameters of the method
+     */
+    private List<ParameterInformation> parameters(Method method) {
+      return methodParameters.computeIfAbsent(method, AbstractBuilder::getParameters);
+    }
+
+    /**
+     * Computes every part of the metadata required to add the class to the {@link Builder},
+     * including its enclosing classes and types returned by {@link Provides} methods.
+     *
+     * @throws IllegalArgumentException if the class cannot be added to the {@link Builder}
+     */
+    private void scan() {
+      if (!Modifier.isAbstract(clazz.getModifiers())) {
+        constructorParameters();
+      }
+
+      fields();
+      for (Method providerMethod : providerMethods()) {
+        parameters(providerMethod);
+        of(AbstractBuilder.getPlainClass(providerMethod.getGenericReturnType())).fields();
+      }
+
+      if (AbstractBuilder.isNestedNonStaticClass(clazz)) {
+        of(clazz.getEnclosingClass()).scan();
+      }
+    }
+
+    /**
+     * @param clazz to look constructor up in
+     * @param descriptor of the class, if indexed
+     * @param <T> is the type constructed by the returned constructor
+     * @return indexed constructor, or {@code null} if it is not indexed or stale
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> @Nullable Constructor<T> indexedConstructor(
+        Class<T> clazz, @Nullable ClassDescriptor descriptor) {
+      final var constructorDescriptor = descriptor == null ? null : descriptor.getConstructor();
+      if (constructorDescriptor == null) {
+        return null;
+      }
+
+      try {
+        return clazz.getDeclaredConstructor(
+            constructorDescriptor.getParameterTypes().toArray(new Class<?>[0]));
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    /**
+     * @param descriptor of the class, if indexed
+     * @return indexed injectable fields, or {@code null} if they are not indexed or stale
+     */
+    private static @Nullable List<FieldInformation> indexedFields(
+        @Nullable ClassDescriptor descriptor) {
+      if (descriptor == null) {
+        return null;
+      }
+
+      final var fields = new ArrayList<FieldInformation>(descriptor.getFields().size());
+      for (MemberDescriptor fieldDescriptor : descriptor.getFields()) {
+        try {
+          fields.add(
+              AbstractBuilder.getFieldInformation(
+                  fieldDescriptor.getDeclaringClass().getDeclaredField(fieldDescriptor.getName())));
+        } catch (NoSuchFieldException e) {
+          return null;
+        }
+      }
+
+      return List.copyOf(fields);
+    }
+
+    /**
+     * @param descriptor of the class, if indexed
+     * @return indexed provider methods, or {@code null} if they are not indexed or stale
+     */
+    private static @Nullable Set<Method> indexedProviderMethods(
+        @Nullable ClassDescriptor descriptor) {
+      if (descriptor == null) {
+        return null;
+      }
+
+      final var methods = new HashSet<Method>();
+      for (MemberDescriptor methodDescriptor : descriptor.getProviderMethods()) {
+        try {
+          methods.add(
+              methodDescriptor
+                  .getDeclaringClass()
+                  .getDeclaredMethod(
+                      methodDescriptor.getName(),
+                      methodDescriptor.getParameterTypes().toArray(new Class<?>[0])));
+        } catch (NoSuchMethodException e) {
+          return null;
+        }
+      }
+
+      return Set.copyOf(methods);
+    }
+
+    @Override
+    public String toString() {
+      return "ClassMetadata{" + clazz.getName() + '}';
+    }
+  }
+
+  /** Contains additional logic to help construct {@link Injector} */
+  public static final class Builder extends AbstractBuilder {
+    /** Default constructor. */
+    private Builder() {
+      super();
+    }
+
+    /**
+     * Sets how constructors and provider methods of the classes added afterwards are invoked.
+     *
+     * <p>{@link Instantiation#METHOD_HANDLE} is used by default.
+     *
+     * @param instantiation to use
+     * @return current builder
+     * @throws IllegalArgumentException if instantiation is {@code null}
+     */
+    public Builder instantiation(@Nullable Instantiation instantiation) {
+      if (instantiation == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Instantiation"));
+      }
+
+      return synchronize(
+          () -> {
+            this.instantiation = instantiation;
+            return this;
+          });
+    }
+
+    /**
+     * Sets how the dependency graph built afterwards is validated.
+     *
+     * <p>{@link Validation#EAGER} is used by default.
+     *
+     * @param validation to use
+     * @return current builder
+     * @throws IllegalArgumentException if validation is {@code null}
+     */
+    public Builder validation(@Nullable Validation validation) {
+      if (validation == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Validation"));
+      }
+
+      return synchronize(
+          () -> {
+            this.validation = validation;
+            return this;
+          });
     }
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(super.hashCode(), delegate, adjuster, singleton);
+    /**
+     * Makes {@link #build()} create every singleton ahead of the first use.
+     *
+     * <p>Singletons are created level by level in dependency order, while singletons within a level
+     * do not depend on each other and are created concurrently on the provided {@link Executor}. If
+     * any singleton fails, the built {@link Injector} is closed and the first failure is reported
+     * with the key of the singleton as soon as it happens.
+     *
+     * @param executor to create singletons on
+     * @return current builder
+     * @throws IllegalArgumentException if executor is {@code null}
+     */
+    public Builder eagerSingletons(@Nullable Executor executor) {
+      if (executor == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Executor"));
+      }
+
+      return synchronize(
+          () -> {
+            this.singletonExecutor = executor;
+            return this;
+          });
+    }
+
+    /**
+     * Makes {@link #build()} time the first creation of every node, reported by {@link
+     * Injector#profile()}.
+     *
+     * <p>Profiling is disabled by default, since timing adds overhead to every resolution.
+     *
+     * @param profiling whether to time node creation
+     * @return current builder
+     */
+    public Builder profiling(boolean profiling) {
+      return synchronize(
+          () -> {
+            this.profiling = profiling;
+            return this;
+          });
+    }
+
+    /**
+     * Makes {@link #build()} replay the warm-up profile from the previous run and record a new one.
+     *
+     * <p>If the profile exists, singletons are created on the provided {@link Executor} in the
+     * order the previous run requested them first, so that they are likely ready before they are
+     * needed, while singletons which were never requested stay lazy. The built {@link Injector}
+     * records the order of this run, written by {@link Injector#saveWarmUpProfile(Path)}.
+     *
+     * @param path to read the profile from, skipped if it does not exist
+     * @param executor to create singletons on
+     * @return current builder
+     * @throws IllegalArgumentException if path or executor is {@code null}
+     */
+    public Builder warmUpProfile(@Nullable Path path, @Nullable Executor executor) {
+      if (path == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Path"));
+      }
+
+      if (executor == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Executor"));
+      }
+
+      return synchronize(
+          () -> {
+            this.warmUpProfile = path;
+            this.warmUpExecutor = executor;
+            return this;
+          });
     }
 
     /**
-     * Creates value via delegate node and applies adjuster to it.
+     * Sets the entry points of the {@link Injector}, so that {@link #build()} drops registrations
+     * none of them depend on.
      *
-     * @return adjusted value
+     * <p>Roots are looked up on {@link #build()}, so they can be set before registering them.
+     *
+     * @param root to retain
+     * @param additionalRoots to retain
+     * @return current builder
+     * @throws IllegalArgumentException if any root is {@code null}
      */
-    private T createAdjusted() {
-      final var instance = delegate.get();
-      adjuster.accept(injectorReference().get(), instance);
-      return instance;
-    }
-  }
+    public Builder roots(@Nullable Key<?> root, Key<?> @Nullable ... additionalRoots) {
+      final var keys = new ArrayList<Key<?>>();
+      keys.add(root);
+      if (additionalRoots != null) {
+        keys.addAll(Arrays.asList(additionalRoots));
+      }
 
-  /** Contains additional logic to help construct {@link Injector} */
-  public static final class Builder extends AbstractBuilder {
-    /** Default constructor. */
-    private Builder() {
-      super();
+      for (Key<?> key : keys) {
+        if (key == null) {
+          throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Root"));
+        }
+      }
+
+      return synchronize(
+          () -> {
+            this.roots = List.copyOf(keys);
+            return this;
+          });
     }
 
     /**
@@ -562,6 +2235,77 @@ public final class Injector implements Closeable {
           });
     }
 
+    /**
+     * Adds classes to the {@link Injector}, scanning them concurrently on the {@link
+     * ForkJoinPool#commonPool()}.
+     *
+     * @param classes to add
+     * @return current builder
+     * @see #addAll(Collection, Executor)
+     */
+    public Builder addAll(@Nullable Collection<? extends Class<?>> classes) {
+      return addAll(classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds classes to the {@link Injector}, scanning them concurrently on the provided {@link
+     * Executor}.
+     *
+     * <p>Only reflection metadata is computed concurrently. Classes are then registered in
+     * iteration order, exactly like {@link #add(Class, Class[])} does, so duplicates and invalid
+     * classes are reported the same way.
+     *
+     * <p>The calling thread scans every class no task has started on yet, instead of waiting for
+     * tasks queued to the executor. Calling this method from a worker of a saturated executor
+     * therefore cannot deadlock.
+     *
+     * @param classes to add
+     * @param executor to scan classes on
+     * @return current builder
+     * @throws IllegalArgumentException if any argument or class is {@code null}, as well as from
+     *     {@link #add(Class, Class[])}
+     */
+    public Builder addAll(
+        @Nullable Collection<? extends Class<?>> classes, @Nullable Executor executor) {
+      if (classes == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Classes"));
+      }
+
+      if (executor == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Executor"));
+      }
+
+      final var orderedClasses = new ArrayList<Class<?>>(classes);
+      final var claims = new AtomicIntegerArray(orderedClasses.size());
+      final var scans = new CompletableFuture<?>[orderedClasses.size()];
+      for (int i = 0; i < scans.length; i++) {
+        final var index = i;
+        final var scan = new CompletableFuture<Void>();
+        scans[i] = scan;
+
+        try {
+          executor.execute(() -> scanOnce(claims, index, orderedClasses.get(index), scan));
+        } catch (RejectedExecutionException e) {
+          // Scanned by the calling thread below
+        }
+      }
+
+      // Only scans already running on the executor are waited for, queued ones run here
+      for (int i = 0; i < scans.length; i++) {
+        scanOnce(claims, i, orderedClasses.get(i), scans[i]);
+      }
+
+      CompletableFuture.allOf(scans).join();
+
+      return synchronizeMutation(
+          this,
+          () -> {
+            for (Class<?> clazz : orderedClasses) {
+              addClass(clazz);
+            }
+          });
+    }
+
     /**
      * Adds class to the {@link Injector} with a post-construction adjuster.
      *
@@ -602,6 +2346,144 @@ public final class Injector implements Closeable {
           });
     }
 
+    /**
+     * Creates new {@link Injector} from a snapshot written by {@link Injector#save(Path)}, skipping
+     * class scanning, as well as missing dependency, captive dependency and cycle validation.
+     *
+     * <p>Objects must be added to this builder beforehand, like they were added to the saved {@link
+     * Injector}. Classes added to this builder are not used, the builder itself stays unchanged.
+     *
+     * <p>Classes are loaded via the thread context class loader, and nodes are invoked according to
+     * {@link #instantiation(Instantiation)} of this builder. The profile set by {@link
+     * #warmUpProfile(Path, Executor)} is replayed as well.
+     *
+     * @param path to read the snapshot from
+     * @return new {@link Injector} instance
+     * @throws IllegalArgumentException if path is {@code null}, if the snapshot is malformed or
+     *     stale, or if an object from the snapshot was not added
+     * @throws UncheckedIOException if the snapshot cannot be read
+     */
+    public Injector load(@Nullable Path path) {
+      if (path == null) {
+        throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Path"));
+      }
+
+      final var entries = GraphSnapshot.read(path, Thread.currentThread().getContextClassLoader());
+
+      return synchronize(
+          () -> {
+            final var snapshotReference = new InjectorReference();
+            final var snapshotProviders = new HashMap<Key<?>, Node<?>>(entries.size());
+            final var orderedKeys = new ArrayList<Key<?>>(entries.size());
+
+            for (GraphSnapshot.Entry entry : entries) {
+              final var key =
+                  entry.kind() == GraphSnapshot.PROVIDES_NEW
+                          || entry.kind() == GraphSnapshot.PROVIDES_SINGLETON
+                      ? getProviderMethodKey(
+                          entry.method(), getPlainClass(entry.method().getGenericReturnType()))
+                      : ClassMetadata.of(entry.type()).key;
+
+              if (!keySignature(key).equals(entry.signature())) {
+                throw new IllegalArgumentException(String.format(STALE_SNAPSHOT_TEMPLATE, key));
+              }
+
+              snapshotProviders.put(
+                  key, createSnapshotNode(entry, key, snapshotReference, orderedKeys));
+              orderedKeys.add(key);
+            }
+
+            final var injector =
+                new Injector(
+                    snapshotReference,
+                    snapshotProviders,
+                    orderedKeys,
+                    List.of(),
+                    true,
+                    profiling,
+                    warmUpProfile != null);
+
+            if (warmUpProfile != null && warmUpExecutor != null) {
+              injector.replayWarmUp(warmUpProfile, warmUpExecutor);
+            }
+
+            return injector;
+          });
+    }
+
+    /**
+     * Recreates a node described by the snapshot entry.
+     *
+     * @param entry describing the node
+     * @param key of the node
+     * @param snapshotReference for dependency lookups
+     * @param orderedKeys of the entries recreated so far
+     * @return new node for the dependency graph
+     * @throws IllegalArgumentException if the node is a value which was not added to this builder
+     */
+    private Node<?> createSnapshotNode(
+        GraphSnapshot.Entry entry,
+        Key<?> key,
+        InjectorReference snapshotReference,
+        List<Key<?>> orderedKeys) {
+      switch (entry.kind()) {
+        case GraphSnapshot.VALUE:
+          final var value = providers.get(key);
+          if (!(value instanceof Value<?>)) {
+            throw new IllegalArgumentException(String.format(MISSING_VALUE_TEMPLATE, key));
+          }
+
+          return value.copy(snapshotReference);
+        case GraphSnapshot.REFERS_TO:
+          return new RefersTo<>(snapshotReference, orderedKeys.get(entry.target()));
+        case GraphSnapshot.CONSTRUCTS_NEW:
+          return new ConstructsNew<>(
+              snapshotReference,
+              entry.constructor(),
+              getParameters(entry.constructor()),
+              getFieldsInformation(entry.fields()),
+              instantiation);
+        case GraphSnapshot.CONSTRUCTS_SINGLETON:
+          return new ConstructsSingleton<>(
+              snapshotReference,
+              entry.constructor(),
+              getParameters(entry.constructor()),
+              getFieldsInformation(entry.fields()),
+              instantiation);
+        case GraphSnapshot.PROVIDES_NEW:
+          return new ProvidesNew<>(
+              snapshotReference,
+              ClassMetadata.of(entry.type()).key,
+              entry.method(),
+              key.type(),
+              getParameters(entry.method()),
+              getFieldsInformation(entry.fields()),
+              instantiation);
+        default:
+          return new ProvidesSingleton<>(
+              snapshotReference,
+              ClassMetadata.of(entry.type()).key,
+              entry.method(),
+              key.type(),
+              getParameters(entry.method()),
+              getFieldsInformation(entry.fields()),
+              instantiation);
+      }
+    }
+
+    /**
+     * @param fields to identify {@link Key}s for
+     * @return an immutable list of {@link FieldInformation} for the fields
+     */
+    private static List<FieldInformation> getFieldsInformation(List<Field> fields) {
+      final var information = new ArrayList<FieldInformation>(fields.size());
+      for (Field field : fields) {
+        information.add(getFieldInformation(field));
+      }
+
+      return List.copyOf(information);
+    }
+
     /**
      * Adds a class to the {@link Injector}.
      *
@@ -646,6 +2528,44 @@ public final class Injector implements Closeable {
       }
     }
 
+    /**
+     * Scans the class unless another thread has claimed it already.
+     *
+     * @param claims of the scanned classes, set to 1 once claimed
+     * @param index of the class
+     * @param clazz to scan
+     * @param scan to complete once scanned
+     */
+    private static void scanOnce(
+        AtomicIntegerArray claims, int index, @Nullable Class<?> clazz, CompletableFuture<?> scan) {
+      if (claims.compareAndSet(index, 0, 1)) {
+        try {
+          scanQuietly(clazz);
+        } finally {
+          scan.complete(null);
+        }
+      }
+    }
+
+    /**
+     * Populates reflection metadata of the class ahead of registration.
+     *
+     * <p>Failures are not cached, so they are left to be reported by the registration itself.
+     *
+     * @param clazz to scan
+     */
+    private static void scanQuietly(@Nullable Class<?> clazz) {
+      if (clazz == null) {
+        return;
+      }
+
+      try {
+        ClassMetadata.of(clazz).scan();
+      } catch (RuntimeException e) {
+        // Reported in registration order by addClass
+      }
+    }
+
     /**
      * Adds a plain object instance to the {@link Injector}.
      *
@@ -658,14 +2578,13 @@ public final class Injector implements Closeable {
         throw new IllegalArgumentException(String.format(NULL_VALUE_TEMPLATE, "Value"));
       }
 
-      final var classKey =
-          new Key<>(value.getClass(), getQualifierAnnotations(value.getClass().getAnnotations()));
+      final var classKey = ClassMetadata.of(value.getClass()).key;
 
       if (providers.containsKey(classKey)) {
         throw new IllegalArgumentException(String.format(DUPLICATE_VALUE_TEMPLATE, classKey));
       }
 
-      providers.put(classKey, new Value<>(injectorReference, value));
+      register(classKey, new Value<>(injectorReference, value));
     }
   }
 
@@ -681,9 +2600,9 @@ public final class Injector implements Closeable {
     private CopyBuilder(Injector injector) {
       super();
 
-      for (Map.Entry<Key<?>, Node<?>> injectorEntry : injector.providers.entrySet()) {
-        this.providers.put(
-            injectorEntry.getKey(), injectorEntry.getValue().copy(injectorReference));
+      // Injector keys are topologically sorted, so the dependency order needs no reordering
+      for (Key<?> key : injector.keys) {
+        register(key, Objects.requireNonNull(injector.providers.get(key)).copy(injectorReference));
       }
     }
 
@@ -762,16 +2681,16 @@ public final class Injector implements Closeable {
         throw new IllegalArgumentException(NON_INSTANTIABLE_CLASS_TEMPLATE);
       }
 
-      final var keys = createKeys(sourceClass, targetClass);
-
-      // Closed via Injector.close()
-      @SuppressWarnings("squid:S2095")
-      final var node = createConstructsNode(targetClass, adjuster);
-
       return synchronize(
           () -> {
-            providers.put(keys.getKey(), new RefersTo<>(injectorReference, keys.getValue()));
-            providers.put(keys.getValue(), node);
+            final var keys = createKeys(sourceClass, targetClass);
+
+            // Closed via Injector.close()
+            @SuppressWarnings("squid:S2095")
+            final var node = createConstructsNode(targetClass, adjuster);
+
+            reregister(keys.getKey(), new RefersTo<>(injectorReference, keys.getValue()));
+            reregister(keys.getValue(), node);
             return this;
           });
     }
@@ -801,18 +2720,17 @@ public final class Injector implements Closeable {
         throw new IllegalArgumentException(NON_INSTANTIABLE_CLASS_TEMPLATE);
       }
 
-      final var keys = createKeys(source.getClass(), target.getClass());
-
       return synchronize(
           () -> {
+            final var keys = createKeys(source.getClass(), target.getClass());
             final var currentNode = providers.get(keys.getKey());
             if (!(currentNode instanceof Value<?>) || currentNode.get() != source) {
               throw new IllegalArgumentException(
                   String.format(MISSING_VALUE_TEMPLATE, keys.getKey()));
             }
 
-            providers.put(keys.getKey(), new RefersTo<>(injectorReference, keys.getValue()));
-            providers.put(keys.getValue(), new Value<>(injectorReference, target));
+            reregister(keys.getKey(), new RefersTo<>(injectorReference, keys.getValue()));
+            reregister(keys.getValue(), new Value<>(injectorReference, target));
             return this;
           });
     }
@@ -846,8 +2764,8 @@ public final class Injector implements Closeable {
      *     or {@code to} is already registered
      */
     private <F, T> Map.Entry<Key<F>, Key<T>> createKeys(Class<F> from, Class<T> to) {
-      final var fromKey = new Key<>(from, getQualifierAnnotations(from.getAnnotations()));
-      final var toKey = new Key<>(to, getQualifierAnnotations(to.getAnnotations()));
+      final var fromKey = ClassMetadata.of(from).key;
+      final var toKey = ClassMetadata.of(to).key;
 
       if (!providers.containsKey(fromKey)) {
         throw new IllegalArgumentException(String.format(MISSING_VALUE_TEMPLATE, fromKey));
@@ -868,55 +2786,179 @@ public final class Injector implements Closeable {
   /** Shared builder logic. */
   private abstract static class AbstractBuilder {
     /** Injector reference used by graph nodes created by this builder. */
-    protected final InjectorReference injectorReference;
+    protected InjectorReference injectorReference;
 
     /** Mutable provider graph accumulated by this builder. */
-    protected final Map<Key<?>, Node<?>> providers;
+    protected Map<Key<?>, Node<?>> providers;
+
+    /** Instantiation used by graph nodes created by this builder. */
+    protected Instantiation instantiation;
+
+    /** Validation of the graph built by this builder. */
+    protected Validation validation;
+
+    /**
+     * Executor to create singletons on during {@link #build()}, or {@code null} to create lazily.
+     */
+    protected @Nullable Executor singletonExecutor;
+
+    /** Whether the {@link Injector} built by this builder times node creation. */
+    protected boolean profiling;
+
+    /** Warm-up profile replayed by {@link #build()}, or {@code null} to skip warm-up. */
+    protected @Nullable Path warmUpProfile;
+
+    /** Executor to replay the warm-up profile on. */
+    protected @Nullable Executor warmUpExecutor;
+
+    /** Keys retained by {@link #build()} together with their dependencies, or all if empty. */
+    protected List<Key<?>> roots;
 
+    private final DependencyOrder dependencyOrder;
     private final Lock providersLock;
 
+    /** Keys registered by the running mutation, undone if the mutation fails. */
+    private @Nullable List<Key<?>> journal;
+
+    /** Keys which closed a cycle during replacement, left out of the dependency order. */
+    private final Set<Key<?>> deferredCycles;
+
+    /** Marks that providers are owned by a built {@link Injector} and must be copied before use. */
+    private boolean shared;
+
     /** Default constructor. */
     protected AbstractBuilder() {
+      this.instantiation = Instantiation.METHOD_HANDLE;
+      this.validation = Validation.EAGER;
+      this.singletonExecutor = null;
+      this.profiling = false;
+      this.warmUpProfile = null;
+      this.warmUpExecutor = null;
+      this.roots = List.of();
       this.injectorReference = new InjectorReference();
       this.providers = new HashMap<>();
+      this.dependencyOrder = new DependencyOrder();
       this.providersLock = new ReentrantLock();
+      this.journal = null;
+      this.deferredCycles = new LinkedHashSet<>();
+      this.shared = false;
     }
 
     /**
      * Creates new {@link Injector} instance, verifying that all necessary objects are present in
      * the dependency graph.
      *
+     * <p>Created {@link Injector} takes over the graph nodes of this builder without copying them.
+     * The builder remains usable: its nodes are copied on the next operation only.
+     *
+     * <p>If roots were set, only the roots and their direct and transitive dependencies are
+     * verified and retained, while the rest is reported by {@link Injector#prunedKeys()}.
+     *
      * @return new {@link Injector} instance
-     * @throws IllegalArgumentException if created dependency graph does not contain the required
-     *     dependency
+     * @throws IllegalArgumentException if any root is not registered, or if created dependency
+     *     graph does not contain the required dependency or contains a cycle
+     * @throws IllegalStateException if singletons are created eagerly and any of them fails
      */
     public final Injector build() {
       return synchronize(
           () -> {
-            for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
-              for (Key<?> key : entry.getValue().parentKeys()) {
-                if (!isUnqualifiedInjectorKey(key) && !providers.containsKey(key)) {
-                  throw new IllegalArgumentException(String.format(MISSING_VALUE_TEMPLATE, key));
-                }
+            if (roots.isEmpty()) {
+              return createInjector(providers, List.of());
+            }
+
+            final var retained = new HashMap<Key<?>, Node<?>>();
+            final var pending = new ArrayDeque<Key<?>>();
+            for (Key<?> root : roots) {
+              if (!providers.containsKey(root)) {
+                throw new IllegalArgumentException(String.format(MISSING_VALUE_TEMPLATE, root));
               }
+
+              pending.push(root);
             }
 
-            checkForCaptiveDependencies();
+            while (!pending.isEmpty()) {
+              final var key = pending.pop();
+              final var node = providers.get(key);
+              if (node == null || retained.putIfAbsent(key, node) != null) {
+                // Missing keys are reported by the verification
+                continue;
+              }
 
-            for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
-              checkForCycle(entry.getKey(), entry.getValue());
+              for (Key<?> parentKey : node.parentKeys()) {
+                if (!retained.containsKey(parentKey)) {
+                  pending.push(parentKey);
+                }
+              }
             }
 
-            final var newInjectorReference = new InjectorReference();
-            final var copiedProviders = new HashMap<Key<?>, Node<?>>(providers.size());
-            for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
-              copiedProviders.put(entry.getKey(), entry.getValue().copy(newInjectorReference));
+            final var prunedKeys = new ArrayList<Key<?>>();
+            for (Key<?> key : providers.keySet()) {
+              if (!retained.containsKey(key)) {
+                prunedKeys.add(key);
+              }
             }
 
-            return new Injector(newInjectorReference, Map.copyOf(copiedProviders));
+            return createInjector(retained, prunedKeys);
           });
     }
 
+    /**
+     * Verifies the dependency graph and hands it over to the new {@link Injector}.
+     *
+     * <p>The graph must contain every registered dependency of its nodes, if available.
+     *
+     * @param graph to verify, either all providers or their part retained from the roots
+     * @param prunedKeys which are not retained
+     * @return new {@link Injector} instance
+     * @throws IllegalArgumentException if the graph does not contain the required dependency or
+     *     contains a cycle
+     */
+    private Injector createInjector(Map<Key<?>, Node<?>> graph, Collection<Key<?>> prunedKeys) {
+      if (validation == Validation.EAGER) {
+        for (Node<?> node : graph.values()) {
+          final var missingKey = findMissingDependency(graph, node);
+          if (missingKey != null) {
+            throw new IllegalArgumentException(String.format(MISSING_VALUE_TEMPLATE, missingKey));
+          }
+        }
+
+        for (Map.Entry<Key<?>, Node<?>> entry : graph.entrySet()) {
+          final var captiveKey = findCaptiveDependency(graph, entry.getKey(), entry.getValue());
+          if (captiveKey != null) {
+            throw new IllegalArgumentException(
+                captiveDependencyMessage(entry.getKey(), captiveKey));
+          }
+        }
+      }
+
+      // A cycle is retained as a whole, including the key which closed it
+      for (Key<?> deferredCycle : deferredCycles) {
+        if (graph.containsKey(deferredCycle)) {
+          throw new IllegalArgumentException(String.format(CYCLE_TEMPLATE, deferredCycle));
+        }
+      }
+
+      shared = true;
+      final var injector =
+          new Injector(
+              injectorReference,
+              graph,
+              prunedKeys,
+              validation == Validation.EAGER,
+              profiling,
+              warmUpProfile != null);
+
+      if (singletonExecutor != null) {
+        injector.createSingletons(singletonExecutor);
+      }
+
+      if (warmUpProfile != null && warmUpExecutor != null) {
+        injector.replayWarmUp(warmUpProfile, warmUpExecutor);
+      }
+
+      return injector;
+    }
+
     /**
      * Run a builder operation under {@link Lock} to maintain thread-safety.
      *
@@ -929,16 +2971,41 @@ public final class Injector implements Closeable {
     protected final <T> T synchronize(Supplier<T> supplier) {
       providersLock.lock();
       try {
+        if (shared) {
+          detach();
+        }
+
         return supplier.get();
       } finally {
         providersLock.unlock();
       }
     }
 
+    /**
+     * Takes back ownership of the graph after it was handed over to a built {@link Injector}.
+     *
+     * <p>Nodes are copied to use a new {@link InjectorReference}, so that the built {@link
+     * Injector} and anything built afterward do not share instances.
+     */
+    private void detach() {
+      final var newInjectorReference = new InjectorReference();
+      final var copiedProviders = new HashMap<Key<?>, Node<?>>(providers.size());
+      for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
+        copiedProviders.put(entry.getKey(), entry.getValue().copy(newInjectorReference));
+      }
+
+      injectorReference = newInjectorReference;
+      providers = copiedProviders;
+      shared = false;
+    }
+
     /**
      * Runs a mutating builder operation under {@link Lock}, rolling back provider changes if the
      * operation fails.
      *
+     * <p>Only keys registered by the operation are journaled and undone, so the cost of a rollback
+     * does not depend on the size of the graph.
+     *
      * @param builder to return after successful mutation
      * @param mutation to run
      * @param <B> is the type of the builder
@@ -948,14 +3015,21 @@ public final class Injector implements Closeable {
         B builder, Runnable mutation) {
       return synchronize(
           () -> {
-            final var snapshot = new HashMap<>(providers);
+            final var registeredKeys = new ArrayList<Key<?>>();
+            journal = registeredKeys;
             try {
               mutation.run();
               return builder;
             } catch (RuntimeException e) {
-              providers.clear();
-              providers.putAll(snapshot);
+              for (int i = registeredKeys.size() - 1; i >= 0; i--) {
+                final var key = registeredKeys.get(i);
+                providers.remove(key);
+                dependencyOrder.remove(key);
+              }
+
               throw e;
+            } finally {
+              journal = null;
             }
           });
     }
@@ -980,7 +3054,8 @@ public final class Injector implements Closeable {
         Class<T> clazz,
         boolean skipDuplicates,
         @Nullable BiConsumer<Injector, ? super T> adjuster) {
-      final var classKey = new Key<>(clazz, getQualifierAnnotations(clazz.getAnnotations()));
+      final var metadata = ClassMetadata.of(clazz);
+      final var classKey = metadata.key;
 
       if (providers.containsKey(classKey)) {
         if (skipDuplicates) {
@@ -990,24 +3065,24 @@ public final class Injector implements Closeable {
         }
       }
 
-      final var node = createConstructsNode(clazz, adjuster);
-      providers.put(classKey, node);
-      checkForCycle(classKey, node);
+      register(classKey, createConstructsNode(clazz, adjuster));
 
-      for (Method providerMethod : getProviderMethods(clazz)) {
-        parseProviderMethodForGraph(classKey, providerMethod);
+      for (Method providerMethod : metadata.providerMethods()) {
+        parseProviderMethodForGraph(metadata, providerMethod);
       }
     }
 
     /**
      * Parses a {@link Provides} method and adds its node to the dependency graph.
      *
-     * @param classKey key of the factory/configuration class declaring the method
+     * @param classMetadata of the factory/configuration class declaring the method
      * @param providerMethod method to parse
      * @throws IllegalArgumentException if provider method return type is unsupported or duplicates
      *     an existing key
      */
-    private void parseProviderMethodForGraph(Key<?> classKey, Method providerMethod) {
+    private void parseProviderMethodForGraph(
+        ClassMetadata<?> classMetadata, Method providerMethod) {
+      final var classKey = classMetadata.key;
       final var methodReturnClass = getPlainClass(providerMethod.getGenericReturnType());
 
       if (Void.TYPE.equals(methodReturnClass)
@@ -1017,20 +3092,14 @@ public final class Injector implements Closeable {
         throw new IllegalArgumentException(NO_WRAPPER_EXPECTED_TEMPLATE);
       }
 
-      final var methodAnnotations = getQualifierAnnotations(providerMethod.getAnnotations());
-      final var methodKey =
-          new Key<>(
-              methodReturnClass,
-              methodAnnotations.isEmpty()
-                  ? getQualifierAnnotations(methodReturnClass.getAnnotations())
-                  : methodAnnotations);
-      final var methodReturnTypeFields = getFields(methodReturnClass);
+      final var methodKey = getProviderMethodKey(providerMethod, methodReturnClass);
+      final var methodReturnTypeFields = ClassMetadata.of(methodReturnClass).fields();
 
       if (providers.containsKey(methodKey)) {
         throw new IllegalArgumentException(String.format(DUPLICATE_VALUE_TEMPLATE, methodKey));
       }
 
-      final var methodParameters = getParameters(providerMethod);
+      final var methodParameters = classMetadata.parameters(providerMethod);
 
       Node<?> methodNode;
       if (providerMethod.isAnnotationPresent(Singleton.class)
@@ -1042,7 +3111,8 @@ public final class Injector implements Closeable {
                 providerMethod,
                 methodReturnClass,
                 methodParameters,
-                methodReturnTypeFields);
+                methodReturnTypeFields,
+                instantiation);
       } else {
         methodNode =
             new ProvidesNew<>(
@@ -1051,11 +3121,29 @@ public final class Injector implements Closeable {
                 providerMethod,
                 methodReturnClass,
                 methodParameters,
-                methodReturnTypeFields);
+                methodReturnTypeFields,
+                instantiation);
       }
 
-      providers.put(methodKey, methodNode);
-      checkForCycle(methodKey, methodNode);
+      register(methodKey, methodNode);
+    }
+
+    /**
+     * Identifies the key provided by the {@link Provides} method.
+     *
+     * @param providerMethod to identify {@link Key} for
+     * @param methodReturnClass plain class returned by the method
+     * @return key qualified by the method annotations, or by the returned class annotations if the
+     *     method has none
+     */
+    protected static Key<?> getProviderMethodKey(
+        Method providerMethod, Class<?> methodReturnClass) {
+      final var methodAnnotations = getQualifierAnnotations(providerMethod.getAnnotations());
+      return Key.ofAnnotations(
+          methodReturnClass,
+          methodAnnotations.isEmpty()
+              ? getQualifierAnnotations(methodReturnClass.getAnnotations())
+              : methodAnnotations);
     }
 
     /**
@@ -1068,17 +3156,22 @@ public final class Injector implements Closeable {
      */
     protected <T> Node<T> createConstructsNode(
         Class<T> clazz, @Nullable BiConsumer<Injector, ? super T> adjuster) {
-      final var constructor = getInjectableConstructor(clazz);
-      final var constructorParameters = getParameters(constructor);
-      final var classFields = getFields(clazz);
+      final var metadata = ClassMetadata.of(clazz);
+      final var constructor = metadata.constructor();
+      final var constructorParameters = metadata.constructorParameters();
+      final var classFields = metadata.fields();
 
       final var isSingleton = clazz.isAnnotationPresent(Singleton.class);
       final Node<T> node =
           isSingleton
               ? new ConstructsSingleton<>(
-                  injectorReference, constructor, constructorParameters, classFields)
+                  injectorReference, constructor, constructorParameters, classFields, instantiation)
               : new ConstructsNew<>(
-                  injectorReference, constructor, constructorParameters, classFields);
+                  injectorReference,
+                  constructor,
+                  constructorParameters,
+                  classFields,
+                  instantiation);
 
       return adjuster == null
           ? node
@@ -1086,146 +3179,79 @@ public final class Injector implements Closeable {
     }
 
     /**
-     * Checks that singleton-scoped nodes do not directly depend on non-singleton nodes.
-     *
-     * @throws IllegalArgumentException if captive dependency is found
-     */
-    private void checkForCaptiveDependencies() {
-      for (Map.Entry<Key<?>, Node<?>> entry : providers.entrySet()) {
-        if (!isSingletonScoped(entry.getValue())) {
-          continue;
-        }
-
-        for (Key<?> parentKey : entry.getValue().requiredParentKeys()) {
-          if (mustSkipCaptiveDependencyCheck(entry.getKey(), entry.getValue(), parentKey)) {
-            continue;
-          }
-
-          if (!isSingletonScoped(parentKey)) {
-            throw new IllegalArgumentException(
-                String.format(
-                    CAPTIVE_DEPENDENCY_TEMPLATE,
-                    entry.getKey(),
-                    parentKey,
-                    parentKey,
-                    parentKey.type().getName(),
-                    parentKey.type().getName()));
-          }
-        }
-      }
-    }
-
-    /**
-     * Determines whether a dependency edge should be ignored by captive dependency validation.
+     * Adds a new node to the dependency graph, keeping the dependency order up to date.
      *
-     * @param ownerKey key of the node whose dependency is checked
-     * @param ownerNode node whose dependency is checked
-     * @param parentKey dependency key to evaluate
-     * @return {@code true} if validation must skip the edge
+     * @param key to register
+     * @param node which corresponds to the key
+     * @throws IllegalArgumentException if the node introduces a cycle
      */
-    private boolean mustSkipCaptiveDependencyCheck(
-        Key<?> ownerKey, Node<?> ownerNode, Key<?> parentKey) {
-      if (isUnqualifiedInjectorKey(parentKey) || !providers.containsKey(parentKey)) {
-        return true;
+    protected void register(Key<?> key, Node<?> node) {
+      if (!dependencyOrder.add(key, dependencyKeys(key, node))) {
+        throw new IllegalArgumentException(String.format(CYCLE_TEMPLATE, key));
       }
 
-      if (ownerNode instanceof ProvidesNew<?>
-          && ((ProvidesNew<?>) ownerNode).getClassKey().equals(parentKey)) {
-        return true;
+      providers.put(key, node);
+      if (journal != null) {
+        journal.add(key);
       }
-
-      return isNestedNonStaticClass(ownerKey.type())
-          && parentKey.type().equals(ownerKey.type().getEnclosingClass());
     }
 
     /**
-     * Checks whether the node registered under the key is singleton-scoped.
+     * Overrides an existing node in the dependency graph, keeping the dependency order up to date.
      *
-     * @param key to check
-     * @return {@code true} if the registered node is singleton-scoped
-     */
-    private boolean isSingletonScoped(Key<?> key) {
-      return isSingletonScoped(Objects.requireNonNull(providers.get(key)));
-    }
-
-    /**
-     * Checks whether the node is singleton-scoped.
+     * <p>Replacements are not rolled back, so a cycle introduced by them is reported by {@link
+     * #build()} instead, unless a later replacement breaks it.
      *
-     * @param node to check
-     * @return {@code true} if the node is singleton-scoped
+     * @param key to register
+     * @param node which corresponds to the key
      */
-    private boolean isSingletonScoped(Node<?> node) {
-      if (node instanceof RefersTo<?>) {
-        final var targetKey = node.parentKeys().iterator().next();
-        return isSingletonScoped(targetKey);
+    protected void reregister(Key<?> key, Node<?> node) {
+      dependencyOrder.remove(key);
+      deferredCycles.remove(key);
+      if (!dependencyOrder.add(key, dependencyKeys(key, node))) {
+        deferredCycles.add(key);
       }
 
-      return node instanceof ConstructsSingleton<?>
-          || node instanceof ProvidesSingleton<?>
-          || node instanceof Value<?>
-          || (node instanceof AdjustedNode<?> && ((AdjustedNode<?>) node).singleton);
-    }
+      providers.put(key, node);
 
-    /**
-     * Checks if there are any cycles in the dependency graph.
-     *
-     * <p>Nested non-static classes have additional behavior when it comes to constructors where the
-     * enclosing class is passed as a first parameter to the class constructor.
-     *
-     * <p>Here for cycle detection, we want to exclude any enclosing classes from the visited set -
-     * otherwise any other nested class within the same enclosing class will trigger a failure.
-     *
-     * @param key to start check from
-     * @param node which corresponds to the key
-     */
-    protected void checkForCycle(Key<?> key, Node<?> node) {
-      checkForCycle(key, node, new HashSet<>(), new HashSet<>());
+      // The replacement may have broken cycles closed earlier, order their keys again
+      for (Key<?> deferredKey : List.copyOf(deferredCycles)) {
+        final var deferredNode = Objects.requireNonNull(providers.get(deferredKey));
+        if (!deferredKey.equals(key)
+            && dependencyOrder.add(deferredKey, dependencyKeys(deferredKey, deferredNode))) {
+          deferredCycles.remove(deferredKey);
+        }
+      }
     }
 
     /**
-     * Checks recursively (BFS-like) if there are any cycles in the dependency graph.
+     * Collects keys the node must be ordered after.
      *
      * <p>Nested non-static classes have additional behavior when it comes to constructors where the
      * enclosing class is passed as a first parameter to the class constructor.
      *
-     * <p>Here for cycle detection, we want to exclude any enclosing classes from the visited set -
+     * <p>Here for cycle detection, we want to exclude any enclosing classes from the dependencies -
      * otherwise any other nested class within the same enclosing class will trigger a failure.
      *
-     * @param key to start check from
-     * @param node which corresponds to the key
-     * @param visiting keys in the current traversal path
-     * @param processed keys already checked for cycles
-     * @throws IllegalArgumentException if the cycle was found
+     * @param key of the node
+     * @param node to collect dependencies for
+     * @return dependency keys
      */
-    private void checkForCycle(
-        Key<?> key, Node<?> node, Set<Key<?>> visiting, Set<Key<?>> processed) {
-      if (visiting.contains(key)) {
-        throw new IllegalArgumentException(String.format(CYCLE_TEMPLATE, key));
+    private static Collection<Key<?>> dependencyKeys(Key<?> key, Node<?> node) {
+      final var requiredParentKeys = node.requiredParentKeys();
+      if (!isNestedNonStaticClass(key.type())) {
+        return requiredParentKeys;
       }
 
-      if (processed.contains(key)) {
-        return;
-      }
-
-      visiting.add(key);
-      final var isNestedNonStaticClass = isNestedNonStaticClass(key.type());
-
-      for (Key<?> consumedKey : node.requiredParentKeys()) {
-        if (isNestedNonStaticClass && consumedKey.type().equals(key.type().getEnclosingClass())) {
-          continue;
-        }
-
-        if (visiting.contains(consumedKey)) {
-          throw new IllegalArgumentException(String.format(CYCLE_TEMPLATE, consumedKey));
-        }
-
-        if (providers.containsKey(consumedKey)) {
-          checkForCycle(consumedKey, providers.get(consumedKey), visiting, processed);
+      final var enclosingClass = key.type().getEnclosingClass();
+      final var dependencyKeys = new ArrayList<Key<?>>(requiredParentKeys.size());
+      for (Key<?> parentKey : requiredParentKeys) {
+        if (!parentKey.type().equals(enclosingClass)) {
+          dependencyKeys.add(parentKey);
         }
       }
 
-      visiting.remove(key);
-      processed.add(key);
+      return dependencyKeys;
     }
 
     /**
@@ -1318,7 +3344,7 @@ public final class Injector implements Closeable {
         information.add(
             new ParameterInformation(
                 parameter,
-                new Key<>(valueClass, getQualifierAnnotations(parameter.getAnnotations())),
+                Key.ofAnnotations(valueClass, getQualifierAnnotations(parameter.getAnnotations())),
                 wrapperClass));
       }
 
@@ -1337,23 +3363,9 @@ public final class Injector implements Closeable {
       Class<?> current = clazz;
       while (current != null && !Object.class.equals(current)) {
         for (Field field : current.getDeclaredFields()) {
-          if (!field.isAnnotationPresent(Inject.class)) {
-            continue;
-          }
-
-          if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
-            throw new IllegalArgumentException("Injected field must not be static or final");
+          if (field.isAnnotationPresent(Inject.class)) {
+            fields.add(getFieldInformation(field));
           }
-
-          final var fieldType = field.getGenericType();
-          final var valueWithWrapper = getGenericValueAndWrapper(fieldType);
-
-          fields.add(
-              new FieldInformation(
-                  field,
-                  new Key<>(
-                      valueWithWrapper.getKey(), getQualifierAnnotations(field.getAnnotations())),
-                  valueWithWrapper.getValue()));
         }
 
         current = current.getSuperclass();
@@ -1362,24 +3374,55 @@ public final class Injector implements Closeable {
       return List.copyOf(fields);
     }
 
+    /**
+     * Identifies the key which must be used to fetch a value for the given injectable {@link
+     * Field}.
+     *
+     * @param field to identify {@link Key} for
+     * @return {@link FieldInformation} of the field
+     * @throws IllegalArgumentException if the field is static or final
+     */
+    protected static FieldInformation getFieldInformation(Field field) {
+      if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+        throw new IllegalArgumentException("Injected field must not be static or final");
+      }
+
+      final var fieldType = field.getGenericType();
+      final var valueWithWrapper = getGenericValueAndWrapper(fieldType);
+
+      return new FieldInformation(
+          field,
+          Key.ofAnnotations(
+              valueWithWrapper.getKey(), getQualifierAnnotations(field.getAnnotations())),
+          valueWithWrapper.getValue());
+    }
+
     /**
      * Identifies methods which provide dependencies to the rest of the classes.
      *
+     * <p>Descendant methods are indexed by name and parameter types, so that override checks only
+     * compare methods with the same signature.
+     *
      * @param clazz to identify methods in
      * @return a {@link Set} of {@link Method} which return new dependencies
      */
     protected static Set<Method> getProviderMethods(Class<?> clazz) {
       final var methods = new HashSet<Method>();
-      final var descendantMethods = new ArrayList<Method>();
+      final var descendantMethods = new HashMap<Map.Entry<String, List<Class<?>>>, List<Method>>();
 
       Class<?> current = clazz;
       while (!current.equals(Object.class)) {
         for (Method method : current.getDeclaredMethods()) {
-          if (descendantMethods.stream().anyMatch(descendant -> overrides(descendant, method))) {
+          final var sameSignatureMethods =
+              descendantMethods.computeIfAbsent(
+                  Map.entry(method.getName(), List.of(method.getParameterTypes())),
+                  signature -> new ArrayList<>(1));
+
+          if (overridden(sameSignatureMethods, method)) {
             continue;
           }
 
-          descendantMethods.add(method);
+          sameSignatureMethods.add(method);
 
           if (method.isAnnotationPresent(Provides.class)) {
             methods.add(method);
@@ -1393,7 +3436,25 @@ public final class Injector implements Closeable {
     }
 
     /**
-     * Checks whether one method overrides another.
+     * Checks whether any of the descendant methods overrides the ancestor method.
+     *
+     * @param descendants methods with the same name and parameter types as the ancestor
+     * @param ancestor possible overridden method
+     * @return {@code true} if any descendant overrides ancestor
+     */
+    private static boolean overridden(List<Method> descendants, Method ancestor) {
+      for (Method descendant : descendants) {
+        if (overrides(descendant, ancestor)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    /**
+     * Checks whether one method overrides another, given that both have the same name and parameter
+     * types.
      *
      * @param descendant possible overriding method
      * @param ancestor possible overridden method
@@ -1414,11 +3475,6 @@ public final class Injector implements Closeable {
         return false;
       }
 
-      if (!descendant.getName().equals(ancestor.getName())
-          || !Arrays.equals(descendant.getParameterTypes(), ancestor.getParameterTypes())) {
-        return false;
-      }
-
       return Modifier.isPublic(ancestorModifiers)
           || Modifier.isProtected(ancestorModifiers)
           || descendant
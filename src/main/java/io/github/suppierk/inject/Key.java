@@ -26,6 +26,7 @@ package io.github.suppierk.inject;
 import io.github.suppierk.utils.ConsoleConstants;
 import jakarta.inject.Qualifier;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
@@ -35,6 +36,10 @@ import org.jspecify.annotations.Nullable;
 /**
  * Defines a map key for the qualified object lookup.
  *
+ * <p>Keys created via {@link #of(Class)} are canonical: equal keys are the same instance, which
+ * makes their comparison an identity check. Qualified keys are not pooled, since their qualifier
+ * annotations may belong to other class loaders and carry unbounded values.
+ *
  * @param <T> is the type of the object
  */
 public final class Key<T> {
@@ -42,6 +47,15 @@ public final class Key<T> {
       Comparator.comparing((Annotation annotation) -> annotation.annotationType().getName())
           .thenComparing(Annotation::toString);
 
+  // Attached to the type and holding nothing else, so that it is unloaded together with the type
+  private static final ClassValue<Key<?>> UNQUALIFIED_KEYS =
+      new ClassValue<>() {
+        @Override
+        protected Key<?> computeValue(Class<?> type) {
+          return new Key<>(type, null);
+        }
+      };
+
   private final Class<T> type;
   private final Set<Annotation> annotations;
   private final int hashCode;
@@ -85,6 +99,71 @@ public final class Key<T> {
     this.hashCode = calculateHashCode();
   }
 
+  /**
+   * Returns canonical unqualified key.
+   *
+   * @param type represented type
+   * @return canonical key
+   * @param <T> is the type of the object
+   * @throws IllegalArgumentException if type is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Key<T> of(@Nullable Class<T> type) {
+    if (type == null) {
+      throw new IllegalArgumentException("Type is null");
+    }
+
+    return (Key<T>) UNQUALIFIED_KEYS.get(type);
+  }
+
+  /**
+   * Returns qualified key, which is canonical only if there are no annotations.
+   *
+   * @param type represented type
+   * @param annotations qualifier annotations
+   * @return key
+   * @param <T> is the type of the object
+   * @throws IllegalArgumentException if type or any of annotations is {@code null}, or any of
+   *     annotations is not a {@link Qualifier}
+   */
+  public static <T> Key<T> of(
+      @Nullable Class<T> type, @Nullable Annotation @Nullable ... annotations) {
+    if (annotations == null || annotations.length == 0) {
+      return of(type);
+    }
+
+    for (Annotation annotation : annotations) {
+      if (annotation == null) {
+        throw new IllegalArgumentException("Annotation is null");
+      }
+    }
+
+    return ofAnnotations(type, Set.copyOf(Arrays.asList(annotations)));
+  }
+
+  /**
+   * Returns key for already collected qualifier annotations, which is canonical only if there are
+   * no annotations.
+   *
+   * @param type represented type
+   * @param annotations qualifier annotations
+   * @return key
+   * @param <T> is the type of the object
+   * @throws IllegalArgumentException if type is {@code null} or any of annotations is not a {@link
+   *     Qualifier}
+   */
+  static <T> Key<T> ofAnnotations(@Nullable Class<T> type, Set<Annotation> annotations) {
+    if (type == null) {
+      throw new IllegalArgumentException("Type is null");
+    }
+
+    if (annotations.isEmpty()) {
+      return of(type);
+    }
+
+    return new Key<>(type, annotations);
+  }
+
   /**
    * @return represented type
    */
@@ -101,6 +180,10 @@ public final class Key<T> {
 
   @Override
   public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+
     if (!(o instanceof Key)) {
       return false;
     }
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject;
+
+import io.github.suppierk.utils.ConsoleConstants;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Startup timings recorded by an {@link Injector} built with {@link
+ * Injector.Builder#profiling(boolean)}.
+ *
+ * <p>Every node which creates instances is timed on its first creation. The critical path is the
+ * chain of dependencies with the largest sum of self times, which bounds startup time even when
+ * independent dependencies are created concurrently.
+ */
+public final class StartupProfile {
+  private final List<Timing> timings;
+  private final List<Timing> criticalPath;
+
+  /**
+   * Default constructor.
+   *
+   * @param timings of created nodes in dependency order
+   * @param criticalPath from the first dependency to the node requiring the whole chain
+   */
+  StartupProfile(List<Timing> timings, List<Timing> criticalPath) {
+    this.timings = List.copyOf(timings);
+    this.criticalPath = List.copyOf(criticalPath);
+  }
+
+  /**
+   * @return timings of created nodes in dependency order
+   */
+  public List<Timing> getTimings() {
+    return timings;
+  }
+
+  /**
+   * @return timings on the critical path, from the first dependency to the node requiring the whole
+   *     chain
+   */
+  public List<Timing> getCriticalPath() {
+    return criticalPath;
+  }
+
+  /**
+   * @return sum of self times on the critical path
+   */
+  public Duration getCriticalPathTime() {
+    return criticalPath.stream().map(Timing::getSelfTime).reduce(Duration.ZERO, Duration::plus);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (!(o instanceof StartupProfile)) return false;
+    StartupProfile that = (StartupProfile) o;
+    return Objects.equals(timings, that.timings) && Objects.equals(criticalPath, that.criticalPath);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(timings, criticalPath);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format(
+        "profile:%n%scriticalPathTime: %s%n%scriticalPath:%s%n%stimings:%s",
+        ConsoleConstants.indent(1),
+        ConsoleConstants.blueBold(getCriticalPathTime().toString()),
+        ConsoleConstants.indent(1),
+        toYamlString(criticalPath),
+        ConsoleConstants.indent(1),
+        toYamlString(timings));
+  }
+
+  /**
+   * @param items to render
+   * @return YAML array of timings
+   */
+  private static String toYamlString(List<Timing> items) {
+    return items.isEmpty()
+        ? ConsoleConstants.YAML_EMPTY_ARRAY
+        : String.format(
+            "%n%s",
+            items.stream()
+                .map(timing -> timing.toYamlString(2))
+                .collect(Collectors.joining(String.format("%n"))));
+  }
+
+  /** Time spent creating the first instance of a single node. */
+  public static final class Timing {
+    private final Key<?> key;
+    private final Duration wallTime;
+    private final Duration selfTime;
+    private final String thread;
+
+    /**
+     * Default constructor.
+     *
+     * @param key of the node
+     * @param wallTime spent creating the instance, including its dependencies
+     * @param selfTime spent creating the instance, excluding its dependencies
+     * @param thread name which created the instance
+     */
+    Timing(Key<?> key, Duration wallTime, Duration selfTime, String thread) {
+      this.key = key;
+      this.wallTime = wallTime;
+      this.selfTime = selfTime;
+      this.thread = thread;
+    }
+
+    /**
+     * @return key of the node
+     */
+    @SuppressWarnings("squid:S1452")
+    public Key<?> getKey() {
+      return key;
+    }
+
+    /**
+     * @return time spent creating the instance, including its dependencies
+     */
+    public Duration getWallTime() {
+      return wallTime;
+    }
+
+    /**
+     * @return time spent creating the instance, excluding its dependencies
+     */
+    public Duration getSelfTime() {
+      return selfTime;
+    }
+
+    /**
+     * @return name of the thread which created the instance
+     */
+    public String getThread() {
+      return thread;
+    }
+
+    /**
+     * Renders the timing, quoting the thread name as a YAML single-quoted scalar.
+     *
+     * @param indentationLevel for the generated YAML fragment
+     * @return YAML array item
+     */
+    private String toYamlString(int indentationLevel) {
+      final var nestedIndent = ConsoleConstants.indent(indentationLevel + 1);
+
+      return String.format(
+          "%s%n%swallTime: %s%n%sselfTime: %s%n%sthread: '%s'",
+          key.toYamlString(true, indentationLevel),
+          nestedIndent,
+          ConsoleConstants.blueBold(wallTime.toString()),
+          nestedIndent,
+          ConsoleConstants.blueBold(selfTime.toString()),
+          nestedIndent,
+          thread.replace("'", "''"));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (!(o instanceof Timing)) return false;
+      Timing that = (Timing) o;
+      return Objects.equals(key, that.key)
+          && Objects.equals(wallTime, that.wallTime)
+          && Objects.equals(selfTime, that.selfTime)
+          && Objects.equals(thread, that.thread);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(key, wallTime, selfTime, thread);
+    }
+
+    @Override
+    public String toString() {
+      return new StringJoiner(", ", Timing.class.getSimpleName() + "[", "]")
+          .add("key=" + key)
+          .add("wallTime=" + wallTime)
+          .add("selfTime=" + selfTime)
+          .add("thread=" + thread)
+          .toString();
+    }
+  }
+}
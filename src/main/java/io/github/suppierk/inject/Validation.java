@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject;
+
+/** Defines when the {@link Injector} dependency graph is validated. */
+public enum Validation {
+  /**
+   * Validates the whole graph when the {@link Injector} is built, reporting problems as {@link
+   * IllegalArgumentException}, used by default.
+   */
+  EAGER,
+
+  /**
+   * Validates a node together with its dependencies the first time it is resolved, reporting
+   * problems as {@link IllegalStateException}.
+   *
+   * <p>Build time then depends only on the part of the graph which is actually used. {@link
+   * Injector#validateAll()} validates the rest on demand.
+   *
+   * <p>Cycles are still detected when the graph is built. Nodes resolve their dependencies by key
+   * until they are validated, so {@link Injector#freeze()} affects only nodes validated so far.
+   */
+  LAZY
+}
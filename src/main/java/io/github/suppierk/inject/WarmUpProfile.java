@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of the order in which singletons of an {@link Injector} were first requested.
+ *
+ * <p>The file consists of key signatures in the recorded order. Unlike {@link GraphSnapshot}, it
+ * carries no class fingerprints, since keys which are no longer registered are simply skipped.
+ */
+final class WarmUpProfile {
+  private static final int MAGIC = 0x494E4A57;
+  private static final int VERSION = 1;
+  private static final String MALFORMED_TEMPLATE = "Malformed warm-up profile: %s";
+
+  private WarmUpProfile() {
+    // Utility class
+  }
+
+  /**
+   * Writes key signatures to the file, replacing it if it exists.
+   *
+   * <p>Signatures are written to a temporary file first, which then atomically replaces the file,
+   * so that readers never see a partially written profile.
+   *
+   * @param path to write to
+   * @param signatures of the keys in the recorded order
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  static void write(Path path, List<String> signatures) {
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+
+      out.writeInt(signatures.size());
+      for (String signature : signatures) {
+        final var signatureBytes = signature.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(signatureBytes.length);
+        out.write(signatureBytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write warm-up profile: " + path, e);
+    }
+
+    final var directory = path.toAbsolutePath().getParent();
+    if (directory == null) {
+      throw new UncheckedIOException(
+          "Failed to write warm-up profile: " + path,
+          new FileSystemException(path.toString(), null, "Not a file"));
+    }
+
+    Path temporary = null;
+    try {
+      temporary = Files.createTempFile(directory, ".warm-up", ".tmp");
+      Files.write(temporary, bytes.toByteArray());
+      Files.move(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      if (temporary != null) {
+        try {
+          Files.deleteIfExists(temporary);
+        } catch (IOException deleteFailure) {
+          e.addSuppressed(deleteFailure);
+        }
+      }
+
+      throw new UncheckedIOException("Failed to write warm-up profile: " + path, e);
+    }
+  }
+
+  /**
+   * Reads key signatures from the file.
+   *
+   * @param path to read from
+   * @return signatures of the keys in the recorded order
+   * @throws IllegalArgumentException if the file is malformed
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  static List<String> read(Path path) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read warm-up profile: " + path, e);
+    }
+
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, path));
+      }
+
+      final int count = readLength(buffer, Integer.BYTES);
+      final var signatures = new ArrayList<String>(count);
+      for (int i = 0; i < count; i++) {
+        final var signatureBytes = new byte[readLength(buffer, Byte.BYTES)];
+        buffer.get(signatureBytes);
+        signatures.add(new String(signatureBytes, StandardCharsets.UTF_8));
+      }
+
+      return List.copyOf(signatures);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException(String.format(MALFORMED_TEMPLATE, path), e);
+    }
+  }
+
+  /**
+   * Reads a length, making sure that the rest of the buffer can hold that many elements before they
+   * are allocated.
+   *
+   * @param buffer to read from
+   * @param elementSize minimal size of a single element, in bytes
+   * @return read length
+   * @throws BufferUnderflowException if the length is negative or exceeds the rest of the buffer
+   */
+  private static int readLength(ByteBuffer buffer, int elementSize) {
+    final int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining() / elementSize) {
+      throw new BufferUnderflowException();
+    }
+
+    return length;
+  }
+}
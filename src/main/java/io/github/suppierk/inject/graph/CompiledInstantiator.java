@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.graph;
+
+import io.github.suppierk.inject.spi.ClassIndex;
+import io.github.suppierk.inject.spi.Invoker;
+import java.lang.reflect.InvocationTargetException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Instantiator} which delegates to an {@link Invoker} compiled into a {@link ClassIndex}, so
+ * that constructors and provider methods are called directly without reflection.
+ */
+final class CompiledInstantiator implements Instantiator {
+  private final Invoker invoker;
+
+  /**
+   * Default constructor.
+   *
+   * @param invoker to delegate to
+   */
+  CompiledInstantiator(Invoker invoker) {
+    this.invoker = invoker;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable Object instantiate(@Nullable Object receiver, Object[] arguments)
+      throws InvocationTargetException {
+    try {
+      return invoker.invoke(receiver, arguments);
+    } catch (Throwable e) {
+      // Keeps the failure contract of the reflective invocation
+      throw new InvocationTargetException(e);
+    }
+  }
+}
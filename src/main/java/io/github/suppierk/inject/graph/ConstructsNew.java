@@ -31,6 +31,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 
@@ -48,6 +49,9 @@ public class ConstructsNew<T> extends ReflectionNode<T> {
   /** Constructor used to instantiate new values. */
   protected final Constructor<T> constructor;
 
+  /** Engine invoking {@link #constructor}. */
+  final Instantiator instantiator;
+
   /**
    * Default constructor.
    *
@@ -62,6 +66,54 @@ public class ConstructsNew<T> extends ReflectionNode<T> {
       @Nullable Constructor<T> constructor,
       @Nullable List<ParameterInformation> parametersInformation,
       @Nullable List<FieldInformation> fieldsInformation) {
+    this(
+        injectorReference,
+        constructor,
+        parametersInformation,
+        fieldsInformation,
+        Instantiation.METHOD_HANDLE);
+  }
+
+  /**
+   * Constructor with a custom instantiation engine.
+   *
+   * @param injectorReference for dependency lookups
+   * @param constructor of the class to invoke to create a new instance
+   * @param parametersInformation of the constructor to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @param instantiation defining how the constructor is invoked
+   * @throws IllegalArgumentException if constructor or instantiation are {@code null}
+   */
+  public ConstructsNew(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Constructor<T> constructor,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation,
+      @Nullable Instantiation instantiation) {
+    this(
+        injectorReference,
+        constructor,
+        createInstantiator(constructor, instantiation),
+        parametersInformation,
+        fieldsInformation);
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param injectorReference for dependency lookups
+   * @param constructor of the class to invoke to create a new instance
+   * @param instantiator to reuse
+   * @param parametersInformation of the constructor to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @throws IllegalArgumentException if constructor is {@code null}
+   */
+  ConstructsNew(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Constructor<T> constructor,
+      Instantiator instantiator,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation) {
     super(injectorReference, parametersInformation, fieldsInformation);
 
     if (constructor == null) {
@@ -69,20 +121,46 @@ public class ConstructsNew<T> extends ReflectionNode<T> {
     }
 
     this.constructor = constructor;
+    this.instantiator = instantiator;
+  }
+
+  /**
+   * Creates {@link Instantiator} for the constructor.
+   *
+   * @param constructor to invoke
+   * @param instantiation defining how the constructor is invoked
+   * @return new {@link Instantiator}
+   * @throws IllegalArgumentException if constructor or instantiation are {@code null}
+   */
+  static Instantiator createInstantiator(
+      @Nullable Constructor<?> constructor, @Nullable Instantiation instantiation) {
+    if (constructor == null) {
+      throw new IllegalArgumentException("Constructor is null");
+    }
+
+    if (instantiation == null) {
+      throw new IllegalArgumentException("Instantiation is null");
+    }
+
+    return instantiation.of(constructor);
+  }
+
+  /**
+   * @return constructor used to instantiate new values
+   */
+  public Constructor<T> getConstructor() {
+    return constructor;
   }
 
   /** {@inheritDoc} */
   @Override
+  @SuppressWarnings("unchecked")
   public T get() {
     try {
-      if (constructor.trySetAccessible()) {
-        final var args = createArguments();
-        final var instance = constructor.newInstance(args);
-        return injectFields(instance);
-      } else {
-        throw new InstantiationException("Cannot set accessible flag for constructor");
-      }
-    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      final var args = createArguments();
+      final var instance = (T) instantiator.instantiate(null, args);
+      return injectFields(Objects.requireNonNull(instance));
+    } catch (IllegalAccessException | InvocationTargetException e) {
       throw new IllegalStateException(
           String.format("Cannot access %s constructor", constructor.getDeclaringClass().getName()),
           e);
@@ -93,7 +171,7 @@ public class ConstructsNew<T> extends ReflectionNode<T> {
   @Override
   public Node<T> copy(InjectorReference newInjector) {
     return new ConstructsNew<>(
-        newInjector, constructor, parametersInformation(), fieldsInformation());
+        newInjector, constructor, instantiator, parametersInformation(), fieldsInformation());
   }
 
   /** {@inheritDoc} */
@@ -61,6 +61,31 @@ public final class ConstructsSingleton<T> extends ConstructsNew<T> {
     this(
         injectorReference,
         constructor,
+        parametersInformation,
+        fieldsInformation,
+        Instantiation.METHOD_HANDLE);
+  }
+
+  /**
+   * Constructor with a custom instantiation engine.
+   *
+   * @param injectorReference for dependency lookups
+   * @param constructor of the class to invoke to create a new instance
+   * @param parametersInformation of the constructor to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @param instantiation defining how the constructor is invoked
+   * @throws IllegalArgumentException if constructor or instantiation are {@code null}
+   */
+  public ConstructsSingleton(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Constructor<T> constructor,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation,
+      @Nullable Instantiation instantiation) {
+    this(
+        injectorReference,
+        constructor,
+        createInstantiator(constructor, instantiation),
         createOnCloseConsumer(declaringClass(constructor)),
         parametersInformation,
         fieldsInformation);
@@ -71,6 +96,7 @@ public final class ConstructsSingleton<T> extends ConstructsNew<T> {
    *
    * @param injectorReference for dependency lookups
    * @param constructor of the class to invoke to create a new instance
+   * @param instantiator to reuse
    * @param onCloseConsumer to clean up resources
    * @param parametersInformation of the constructor to be invoked during dependency injection
    * @param fieldsInformation of the class to be set during dependency injection
@@ -79,10 +105,11 @@ public final class ConstructsSingleton<T> extends ConstructsNew<T> {
   private ConstructsSingleton(
       @Nullable InjectorReference injectorReference,
       @Nullable Constructor<T> constructor,
+      Instantiator instantiator,
       Consumer<T> onCloseConsumer,
       @Nullable List<ParameterInformation> parametersInformation,
       @Nullable List<FieldInformation> fieldsInformation) {
-    super(injectorReference, constructor, parametersInformation, fieldsInformation);
+    super(injectorReference, constructor, instantiator, parametersInformation, fieldsInformation);
     this.memoized = Memoized.memoizedProvider(super::get);
     this.onCloseConsumer = onCloseConsumer;
   }
@@ -101,11 +128,22 @@ public final class ConstructsSingleton<T> extends ConstructsNew<T> {
     return memoized.get();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable T constant() {
+    return memoized.orElse(null);
+  }
+
   /** {@inheritDoc} */
   @Override
   public Node<T> copy(InjectorReference newInjector) {
     return new ConstructsSingleton<>(
-        newInjector, constructor, onCloseConsumer, parametersInformation(), fieldsInformation());
+        newInjector,
+        constructor,
+        instantiator,
+        onCloseConsumer,
+        parametersInformation(),
+        fieldsInformation());
   }
 
   /** {@inheritDoc} */
@@ -0,0 +1,399 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.graph;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Defines {@link Instantiator} backed by a class generated with {@link LambdaMetafactory}.
+ *
+ * <p>Generated class is defined as a hidden nestmate of the declaring class and calls the
+ * constructor or method directly, casting and unboxing every argument on the way. Because of that
+ * the declaring class must be open to this library, which is always the case for the classpath.
+ */
+final class GeneratedInstantiator implements Instantiator {
+  /** Maximum number of arguments, including method receiver, supported by generated classes. */
+  static final int MAX_ARITY = 8;
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final String FACTORY_METHOD_NAME = "create";
+  private static final Class<?>[] FACTORY_TYPES = {
+    Factory0.class,
+    Factory1.class,
+    Factory2.class,
+    Factory3.class,
+    Factory4.class,
+    Factory5.class,
+    Factory6.class,
+    Factory7.class,
+    Factory8.class
+  };
+
+  private final Invoker invoker;
+
+  /**
+   * Default constructor.
+   *
+   * @param invoker calling generated class
+   */
+  private GeneratedInstantiator(Invoker invoker) {
+    this.invoker = invoker;
+  }
+
+  /**
+   * Creates {@link Instantiator} for the constructor.
+   *
+   * @param constructor to invoke
+   * @return new {@link Instantiator}, or {@link MethodHandleInstantiator} if the class cannot be
+   *     generated
+   */
+  static Instantiator of(Constructor<?> constructor) {
+    final var declaringClass = constructor.getDeclaringClass();
+
+    try {
+      final var lookup = privateLookupIn(declaringClass);
+      if (lookup != null && constructor.getParameterCount() <= MAX_ARITY) {
+        final var factory = generate(lookup, lookup.unreflectConstructor(constructor));
+        return new GeneratedInstantiator(adapt(factory, constructor.getParameterCount(), false));
+      }
+    } catch (ReflectiveOperationException
+        | LambdaConversionException
+        | RuntimeException
+        | LinkageError e) {
+      // Generation is an optimization only, method handles report the actual failure if any
+    }
+
+    return MethodHandleInstantiator.of(constructor);
+  }
+
+  /**
+   * Creates {@link Instantiator} for the method.
+   *
+   * @param method to invoke
+   * @return new {@link Instantiator}, or {@link MethodHandleInstantiator} if the class cannot be
+   *     generated
+   */
+  static Instantiator of(Method method) {
+    final var declaringClass = method.getDeclaringClass();
+    final var hasReceiver = !Modifier.isStatic(method.getModifiers());
+    final var arity = method.getParameterCount() + (hasReceiver ? 1 : 0);
+
+    try {
+      final var lookup = privateLookupIn(declaringClass);
+      if (lookup != null && arity <= MAX_ARITY) {
+        final var factory = generate(lookup, lookup.unreflect(method));
+        return new GeneratedInstantiator(adapt(factory, method.getParameterCount(), hasReceiver));
+      }
+    } catch (ReflectiveOperationException
+        | LambdaConversionException
+        | RuntimeException
+        | LinkageError e) {
+      // Generation is an optimization only, method handles report the actual failure if any
+    }
+
+    return MethodHandleInstantiator.of(method);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable Object instantiate(@Nullable Object receiver, Object[] arguments)
+      throws InvocationTargetException {
+    try {
+      return invoker.invoke(receiver, arguments);
+    } catch (Throwable e) {
+      // Keeps the failure contract of the reflective invocation
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Obtains a lookup allowed to define classes next to the declaring class.
+   *
+   * @param declaringClass of the constructor or method
+   * @return lookup with full privilege access or {@code null} if such lookup is not available
+   * @throws IllegalAccessException if the declaring class is not open to this library
+   */
+  private static MethodHandles.@Nullable Lookup privateLookupIn(Class<?> declaringClass)
+      throws IllegalAccessException {
+    GeneratedInstantiator.class.getModule().addReads(declaringClass.getModule());
+
+    final var lookup = MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+    return lookup.hasFullPrivilegeAccess() ? lookup : null;
+  }
+
+  /**
+   * Generates a factory class calling the handle with erased arguments.
+   *
+   * @param lookup of the declaring class
+   * @param handle to call
+   * @return factory instance implementing one of the arity-specific interfaces
+   * @throws LambdaConversionException if the factory class cannot be generated
+   */
+  private static Object generate(MethodHandles.Lookup lookup, MethodHandle handle)
+      throws LambdaConversionException {
+    final var handleType = handle.type();
+    final var arity = handleType.parameterCount();
+
+    final var callSite =
+        LambdaMetafactory.metafactory(
+            lookup,
+            FACTORY_METHOD_NAME,
+            MethodType.methodType(FACTORY_TYPES[arity]),
+            MethodType.genericMethodType(arity),
+            handle,
+            handleType.wrap());
+    try {
+      return callSite.getTarget().invoke();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // Factories without captured arguments only return their instance and declare no exceptions
+      throw new IllegalStateException("Failed to create factory", e);
+    }
+  }
+
+  /**
+   * Adapts the factory to the {@link Invoker}, spreading arguments without an intermediate copy.
+   *
+   * @param factory implementing one of the arity-specific interfaces
+   * @param parameterCount of the constructor or method, excluding method receiver
+   * @param hasReceiver if the method receiver must be passed as a first argument
+   * @return new {@link Invoker}
+   */
+  @SuppressWarnings("squid:S1479")
+  private static Invoker adapt(Object factory, int parameterCount, boolean hasReceiver) {
+    if (hasReceiver) {
+      switch (parameterCount) {
+        case 0:
+          return (r, a) -> ((Factory1) factory).create(r);
+        case 1:
+          return (r, a) -> ((Factory2) factory).create(r, a[0]);
+        case 2:
+          return (r, a) -> ((Factory3) factory).create(r, a[0], a[1]);
+        case 3:
+          return (r, a) -> ((Factory4) factory).create(r, a[0], a[1], a[2]);
+        case 4:
+          return (r, a) -> ((Factory5) factory).create(r, a[0], a[1], a[2], a[3]);
+        case 5:
+          return (r, a) -> ((Factory6) factory).create(r, a[0], a[1], a[2], a[3], a[4]);
+        case 6:
+          return (r, a) -> ((Factory7) factory).create(r, a[0], a[1], a[2], a[3], a[4], a[5]);
+        case 7:
+          return (r, a) -> ((Factory8) factory).create(r, a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+        default:
+          throw new IllegalArgumentException("Too many arguments: " + parameterCount);
+      }
+    }
+
+    switch (parameterCount) {
+      case 0:
+        return (r, a) -> ((Factory0) factory).create();
+      case 1:
+        return (r, a) -> ((Factory1) factory).create(a[0]);
+      case 2:
+        return (r, a) -> ((Factory2) factory).create(a[0], a[1]);
+      case 3:
+        return (r, a) -> ((Factory3) factory).create(a[0], a[1], a[2]);
+      case 4:
+        return (r, a) -> ((Factory4) factory).create(a[0], a[1], a[2], a[3]);
+      case 5:
+        return (r, a) -> ((Factory5) factory).create(a[0], a[1], a[2], a[3], a[4]);
+      case 6:
+        return (r, a) -> ((Factory6) factory).create(a[0], a[1], a[2], a[3], a[4], a[5]);
+      case 7:
+        return (r, a) -> ((Factory7) factory).create(a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+      case 8:
+        return (r, a) ->
+            ((Factory8) factory).create(a[0], a[1], a[2], a[3], a[4], a[5], a[6], a[7]);
+      default:
+        throw new IllegalArgumentException("Too many arguments: " + parameterCount);
+    }
+  }
+
+  /** Calls generated factory with spread arguments. */
+  @FunctionalInterface
+  private interface Invoker {
+    @Nullable Object invoke(@Nullable Object receiver, Object[] arguments) throws Throwable;
+  }
+
+  /*
+   * Arity-specific interfaces implemented by generated classes.
+   *
+   * These must be public, because generated classes are defined next to the declaring class,
+   * outside of this package.
+   */
+
+  /** Factory without arguments. */
+  @FunctionalInterface
+  public interface Factory0 {
+    /**
+     * @return created instance
+     */
+    @Nullable Object create();
+  }
+
+  /** Factory with 1 argument. */
+  @FunctionalInterface
+  public interface Factory1 {
+    /**
+     * @param a1 first argument
+     * @return created instance
+     */
+    @Nullable Object create(@Nullable Object a1);
+  }
+
+  /** Factory with 2 arguments. */
+  @FunctionalInterface
+  public interface Factory2 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @return created instance
+     */
+    @Nullable Object create(@Nullable Object a1, @Nullable Object a2);
+  }
+
+  /** Factory with 3 arguments. */
+  @FunctionalInterface
+  public interface Factory3 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @return created instance
+     */
+    @Nullable Object create(@Nullable Object a1, @Nullable Object a2, @Nullable Object a3);
+  }
+
+  /** Factory with 4 arguments. */
+  @FunctionalInterface
+  public interface Factory4 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @return created instance
+     */
+    @Nullable Object create(
+        @Nullable Object a1, @Nullable Object a2, @Nullable Object a3, @Nullable Object a4);
+  }
+
+  /** Factory with 5 arguments. */
+  @FunctionalInterface
+  public interface Factory5 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @param a5 fifth argument
+     * @return created instance
+     */
+    @Nullable Object create(
+        @Nullable Object a1,
+        @Nullable Object a2,
+        @Nullable Object a3,
+        @Nullable Object a4,
+        @Nullable Object a5);
+  }
+
+  /** Factory with 6 arguments. */
+  @FunctionalInterface
+  public interface Factory6 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @param a5 fifth argument
+     * @param a6 sixth argument
+     * @return created instance
+     */
+    @Nullable Object create(
+        @Nullable Object a1,
+        @Nullable Object a2,
+        @Nullable Object a3,
+        @Nullable Object a4,
+        @Nullable Object a5,
+        @Nullable Object a6);
+  }
+
+  /** Factory with 7 arguments. */
+  @FunctionalInterface
+  public interface Factory7 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @param a5 fifth argument
+     * @param a6 sixth argument
+     * @param a7 seventh argument
+     * @return created instance
+     */
+    @Nullable Object create(
+        @Nullable Object a1,
+        @Nullable Object a2,
+        @Nullable Object a3,
+        @Nullable Object a4,
+        @Nullable Object a5,
+        @Nullable Object a6,
+        @Nullable Object a7);
+  }
+
+  /** Factory with 8 arguments. */
+  @FunctionalInterface
+  public interface Factory8 {
+    /**
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @param a5 fifth argument
+     * @param a6 sixth argument
+     * @param a7 seventh argument
+     * @param a8 eighth argument
+     * @return created instance
+     */
+    @Nullable Object create(
+        @Nullable Object a1,
+        @Nullable Object a2,
+        @Nullable Object a3,
+        @Nullable Object a4,
+        @Nullable Object a5,
+        @Nullable Object a6,
+        @Nullable Object a7,
+        @Nullable Object a8);
+  }
+}
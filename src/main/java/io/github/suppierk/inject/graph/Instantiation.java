@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.graph;
+
+import io.github.suppierk.inject.internal.ClassIndexes;
+import io.github.suppierk.inject.spi.ClassIndex;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Defines how {@link ReflectionNode}s invoke constructors and provider methods.
+ *
+ * <p>Regardless of the chosen instantiation, invokers compiled into a {@link ClassIndex} take
+ * precedence whenever they are available.
+ */
+public enum Instantiation {
+  /** Invokes constructors and provider methods through method handles, used by default. */
+  METHOD_HANDLE {
+    @Override
+    Instantiator create(Constructor<?> constructor) {
+      return MethodHandleInstantiator.of(constructor);
+    }
+
+    @Override
+    Instantiator create(Method method) {
+      return MethodHandleInstantiator.of(method);
+    }
+  },
+
+  /**
+   * Invokes constructors and provider methods through classes generated at runtime, which call them
+   * directly with typed arguments.
+   *
+   * <p>Falls back to {@link #METHOD_HANDLE} whenever the class cannot be generated, e.g. when the
+   * declaring class is not open to this library or accepts too many arguments.
+   */
+  GENERATED {
+    @Override
+    Instantiator create(Constructor<?> constructor) {
+      return GeneratedInstantiator.of(constructor);
+    }
+
+    @Override
+    Instantiator create(Method method) {
+      return GeneratedInstantiator.of(method);
+    }
+  };
+
+  /**
+   * Creates {@link Instantiator} for the constructor, preferring a compiled invoker.
+   *
+   * @param constructor to invoke
+   * @return new {@link Instantiator}
+   */
+  final Instantiator of(Constructor<?> constructor) {
+    final var invoker = ClassIndexes.invoker(constructor);
+    return invoker == null ? create(constructor) : new CompiledInstantiator(invoker);
+  }
+
+  /**
+   * Creates {@link Instantiator} for the method, preferring a compiled invoker.
+   *
+   * @param method to invoke
+   * @return new {@link Instantiator}
+   */
+  final Instantiator of(Method method) {
+    final var invoker = ClassIndexes.invoker(method);
+    return invoker == null ? create(method) : new CompiledInstantiator(invoker);
+  }
+
+  /**
+   * Creates {@link Instantiator} for the constructor.
+   *
+   * @param constructor to invoke
+   * @return new {@link Instantiator}
+   */
+  abstract Instantiator create(Constructor<?> constructor);
+
+  /**
+   * Creates {@link Instantiator} for the method.
+   *
+   * @param method to invoke
+   * @return new {@link Instantiator}
+   */
+  abstract Instantiator create(Method method);
+}
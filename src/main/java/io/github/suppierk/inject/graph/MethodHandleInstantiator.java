@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.graph;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Defines {@link Instantiator} backed by a spread-adapted {@link MethodHandle}.
+ *
+ * <p>Accessibility is checked once, when the handle is created. Compared to {@link
+ * Constructor#newInstance(Object...)} and {@link Method#invoke(Object, Object...)} this avoids
+ * per-call access checks and argument array copies, and lets the JIT inline the target.
+ */
+final class MethodHandleInstantiator implements Instantiator {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private final MethodHandle handle;
+
+  /**
+   * Default constructor.
+   *
+   * @param handle of {@code (Object, Object[])Object} type
+   */
+  private MethodHandleInstantiator(MethodHandle handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * Creates {@link Instantiator} for the constructor.
+   *
+   * @param constructor to invoke
+   * @return new {@link Instantiator}, which reports an access failure on every invocation if the
+   *     constructor cannot be made accessible
+   */
+  static Instantiator of(Constructor<?> constructor) {
+    if (!constructor.trySetAccessible()) {
+      return inaccessible("Cannot set accessible flag for constructor");
+    }
+
+    try {
+      final var constructorHandle = spread(LOOKUP.unreflectConstructor(constructor), 0);
+      return new MethodHandleInstantiator(
+          MethodHandles.dropArguments(constructorHandle, 0, Object.class));
+    } catch (IllegalAccessException e) {
+      return inaccessible(e.getMessage());
+    }
+  }
+
+  /**
+   * Creates {@link Instantiator} for the method.
+   *
+   * @param method to invoke
+   * @return new {@link Instantiator}, which reports an access failure on every invocation if the
+   *     method cannot be made accessible
+   */
+  static Instantiator of(Method method) {
+    if (!method.trySetAccessible()) {
+      return inaccessible(
+          String.format(
+              "Cannot set accessible flag for %s in %s",
+              method.getName(), method.getDeclaringClass().getName()));
+    }
+
+    try {
+      final var methodHandle = LOOKUP.unreflect(method);
+
+      if (Modifier.isStatic(method.getModifiers())) {
+        return new MethodHandleInstantiator(
+            MethodHandles.dropArguments(spread(methodHandle, 0), 0, Object.class));
+      }
+
+      return new MethodHandleInstantiator(spread(methodHandle, 1));
+    } catch (IllegalAccessException e) {
+      return inaccessible(e.getMessage());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable Object instantiate(@Nullable Object receiver, Object[] arguments)
+      throws InvocationTargetException {
+    try {
+      return (Object) handle.invokeExact(receiver, arguments);
+    } catch (Throwable e) {
+      // Keeps the failure contract of the reflective invocation
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Adapts the handle to accept all arguments after the leading ones as a single {@link Object}
+   * array, erasing every other type to {@link Object}.
+   *
+   * @param handle to adapt
+   * @param leadingArguments number of arguments to keep as they are, e.g. method receiver
+   * @return adapted handle
+   */
+  private static MethodHandle spread(MethodHandle handle, int leadingArguments) {
+    final var fixedArity = handle.asFixedArity();
+    return fixedArity
+        .asType(fixedArity.type().generic())
+        .asSpreader(Object[].class, fixedArity.type().parameterCount() - leadingArguments);
+  }
+
+  /**
+   * Creates {@link Instantiator} which always reports the access failure.
+   *
+   * @param message describing the failure
+   * @return new {@link Instantiator}
+   */
+  private static Instantiator inaccessible(@Nullable String message) {
+    return (receiver, arguments) -> {
+      throw new IllegalAccessException(message);
+    };
+  }
+}
@@ -95,6 +95,40 @@ public abstract class Node<T> implements Provider<T>, Supplier<T>, Closeable {
    */
   public abstract Node<T> copy(InjectorReference newInjector);
 
+  /**
+   * Resolves direct references to the parent nodes, so that later instantiations do not need to
+   * look them up by {@link Key}.
+   *
+   * <p>Called by {@link Injector} once for every registered node after the graph is complete, or
+   * once the node is validated if validation is lazy, possibly concurrently with {@link #get()}.
+   * Nodes which were never linked keep resolving their parents via {@link InjectorReference}.
+   */
+  public void link() {
+    // Node does not have parents to resolve by default
+  }
+
+  /**
+   * Returns the instance this node will return on every {@link #get()} call, if it is already
+   * known.
+   *
+   * @return constant instance or {@code null} if the node creates new instances or the instance is
+   *     not created yet
+   */
+  public @Nullable T constant() {
+    return null;
+  }
+
+  /**
+   * Replaces linked parent nodes which already have {@link #constant()} instances with those
+   * instances, so that later instantiations read them directly.
+   *
+   * <p>Called by {@link Injector#freeze()} for every registered node. Safe to call multiple times,
+   * each call captures the constants created so far.
+   */
+  public void freeze() {
+    // Node does not have parents to freeze by default
+  }
+
   /**
    * Renders particular {@link Node} as YAML for human-readable option to inspect dependencies.
    *
@@ -57,6 +57,14 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
   /** Class returned by the provider method. */
   protected final Class<T> methodReturnClass;
 
+  /** Engine invoking {@link #method}. */
+  final Instantiator instantiator;
+
+  private @Nullable Node<?> classNode;
+
+  // Frozen constant is published after the injector is constructed, hence volatile
+  private volatile @Nullable Object classConstant;
+
   /**
    * Default constructor.
    *
@@ -75,10 +83,71 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
       @Nullable Class<T> methodReturnClass,
       @Nullable List<ParameterInformation> parametersInformation,
       @Nullable List<FieldInformation> fieldsInformation) {
+    this(
+        injectorReference,
+        classKey,
+        method,
+        methodReturnClass,
+        parametersInformation,
+        fieldsInformation,
+        Instantiation.METHOD_HANDLE);
+  }
+
+  /**
+   * Constructor with a custom instantiation engine.
+   *
+   * @param injectorReference for dependency lookups
+   * @param classKey of the {@link ConstructsNew} to obtain class instance
+   * @param method to call on the class instance
+   * @param methodReturnClass to call on the class instance
+   * @param parametersInformation of the method to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @param instantiation defining how the method is invoked
+   * @throws IllegalArgumentException if class key, method or instantiation are {@code null}
+   */
+  public ProvidesNew(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Key<?> classKey,
+      @Nullable Method method,
+      @Nullable Class<T> methodReturnClass,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation,
+      @Nullable Instantiation instantiation) {
+    this(
+        injectorReference,
+        classKey,
+        method,
+        createInstantiator(method, instantiation),
+        methodReturnClass,
+        parametersInformation,
+        fieldsInformation);
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param injectorReference for dependency lookups
+   * @param classKey of the {@link ConstructsNew} to obtain class instance
+   * @param method to call on the class instance
+   * @param instantiator to reuse
+   * @param methodReturnClass to call on the class instance
+   * @param parametersInformation of the method to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @throws IllegalArgumentException if class key or method are {@code null}
+   */
+  ProvidesNew(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Key<?> classKey,
+      @Nullable Method method,
+      Instantiator instantiator,
+      @Nullable Class<T> methodReturnClass,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation) {
     this(
         requireClassKey(classKey),
         injectorReference,
         method,
+        instantiator,
         methodReturnClass,
         parametersInformation,
         fieldsInformation);
@@ -88,6 +157,7 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
       Key<?> classKey,
       @Nullable InjectorReference injectorReference,
       @Nullable Method method,
+      Instantiator instantiator,
       @Nullable Class<T> methodReturnClass,
       @Nullable List<ParameterInformation> parametersInformation,
       @Nullable List<FieldInformation> fieldsInformation) {
@@ -103,9 +173,31 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
 
     this.classKey = classKey;
     this.method = method;
+    this.instantiator = instantiator;
     this.methodReturnClass = methodReturnClass;
   }
 
+  /**
+   * Creates {@link Instantiator} for the method.
+   *
+   * @param method to invoke
+   * @param instantiation defining how the method is invoked
+   * @return new {@link Instantiator}
+   * @throws IllegalArgumentException if method or instantiation are {@code null}
+   */
+  static Instantiator createInstantiator(
+      @Nullable Method method, @Nullable Instantiation instantiation) {
+    if (method == null) {
+      throw new IllegalArgumentException("Method is null");
+    }
+
+    if (instantiation == null) {
+      throw new IllegalArgumentException("Instantiation is null");
+    }
+
+    return instantiation.of(method);
+  }
+
   @SuppressWarnings("squid:S1452")
   private static Key<?> requireClassKey(@Nullable Key<?> classKey) {
     if (classKey == null) {
@@ -123,26 +215,57 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
     return classKey;
   }
 
+  /**
+   * @return provider method used to instantiate new values
+   */
+  public Method getMethod() {
+    return method;
+  }
+
+  /**
+   * @return class returned by the provider method
+   */
+  public Class<T> getMethodReturnClass() {
+    return methodReturnClass;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void link() {
+    super.link();
+    this.classNode = injectorReference().getNode(classKey);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void freeze() {
+    super.freeze();
+
+    final var linkedClassNode = classNode;
+    if (linkedClassNode != null) {
+      this.classConstant = linkedClassNode.constant();
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   @SuppressWarnings("unchecked")
   public T get() {
-    final var objectInstance = injectorReference().getNode(classKey).get();
+    final var frozenClassConstant = classConstant;
+    final var linkedClassNode = classNode;
+    final var objectInstance =
+        frozenClassConstant != null
+            ? frozenClassConstant
+            : (linkedClassNode == null ? injectorReference().getNode(classKey) : linkedClassNode)
+                .get();
 
     try {
-      if (method.trySetAccessible()) {
-        final var provided = (T) method.invoke(objectInstance, createArguments());
-        if (provided == null) {
-          throw new IllegalArgumentException("Provider returned null");
-        }
-
-        return injectFields(provided);
-      } else {
-        throw new IllegalAccessException(
-            String.format(
-                "Cannot set accessible flag for %s in %s",
-                method.getName(), classKey.type().getName()));
+      final var provided = (T) instantiator.instantiate(objectInstance, createArguments());
+      if (provided == null) {
+        throw new IllegalArgumentException("Provider returned null");
       }
+
+      return injectFields(provided);
     } catch (IllegalAccessException | InvocationTargetException e) {
       throw new IllegalStateException(
           String.format("Cannot access %s in %s", method.getName(), classKey.type().getName()), e);
@@ -156,6 +279,7 @@ public class ProvidesNew<T> extends ReflectionNode<T> {
         newInjector,
         classKey,
         method,
+        instantiator,
         methodReturnClass,
         parametersInformation(),
         fieldsInformation());
@@ -68,6 +68,37 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
         classKey,
         method,
         methodReturnClass,
+        parametersInformation,
+        fieldsInformation,
+        Instantiation.METHOD_HANDLE);
+  }
+
+  /**
+   * Constructor with a custom instantiation engine.
+   *
+   * @param injectorReference for dependency lookups
+   * @param classKey of the {@link ConstructsNew} to obtain class instance
+   * @param method to call on the class instance
+   * @param methodReturnClass to call on the class instance
+   * @param parametersInformation of the method to be invoked during dependency injection
+   * @param fieldsInformation of the class to be set during dependency injection
+   * @param instantiation defining how the method is invoked
+   * @throws IllegalArgumentException if class key, method or instantiation are {@code null}
+   */
+  public ProvidesSingleton(
+      @Nullable InjectorReference injectorReference,
+      @Nullable Key<?> classKey,
+      @Nullable Method method,
+      @Nullable Class<T> methodReturnClass,
+      @Nullable List<ParameterInformation> parametersInformation,
+      @Nullable List<FieldInformation> fieldsInformation,
+      @Nullable Instantiation instantiation) {
+    this(
+        injectorReference,
+        classKey,
+        method,
+        createInstantiator(method, instantiation),
+        methodReturnClass,
         createOnCloseConsumer(methodReturnClass),
         parametersInformation,
         fieldsInformation);
@@ -79,6 +110,9 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
    * @param injectorReference for dependency lookups
    * @param classKey of the {@link ConstructsNew} to obtain class instance
    * @param method to call on the class instance
+   * @param instantiator to reuse
+   * @param methodReturnClass to call on the class instance
+   * @param onCloseConsumer to clean up resources
    * @param parametersInformation of the method to be invoked during dependency injection
    * @param fieldsInformation of the class to be set during dependency injection
    * @throws IllegalArgumentException if class key or method are {@code null}
@@ -87,6 +121,7 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
       @Nullable InjectorReference injectorReference,
       @Nullable Key<?> classKey,
       @Nullable Method method,
+      Instantiator instantiator,
       @Nullable Class<T> methodReturnClass,
       Consumer<T> onCloseConsumer,
       @Nullable List<ParameterInformation> parametersInformation,
@@ -95,6 +130,7 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
         injectorReference,
         classKey,
         method,
+        instantiator,
         methodReturnClass,
         parametersInformation,
         fieldsInformation);
@@ -108,6 +144,12 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
     return memoized.get();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable T constant() {
+    return memoized.orElse(null);
+  }
+
   /** {@inheritDoc} */
   @Override
   public Node<T> copy(InjectorReference newInjector) {
@@ -115,6 +157,7 @@ public final class ProvidesSingleton<T> extends ProvidesNew<T> {
         newInjector,
         classKey,
         method,
+        instantiator,
         methodReturnClass,
         onCloseConsumer,
         parametersInformation(),
@@ -41,6 +41,8 @@ import org.jspecify.annotations.Nullable;
  * @param <T> is the type of the instance this node refers to
  */
 public final class RefersTo<T> extends Node<T> {
+  private @Nullable Node<T> target;
+
   /**
    * Default constructor.
    *
@@ -56,15 +58,42 @@ public final class RefersTo<T> extends Node<T> {
   @Override
   @SuppressWarnings("unchecked")
   public T get() {
+    final var linkedTarget = target;
+    if (linkedTarget != null) {
+      return linkedTarget.get();
+    }
+
     Node<T> current = this;
 
-    while (RefersTo.class.isAssignableFrom(current.getClass())) {
+    while (current instanceof RefersTo) {
       current = (Node<T>) injectorReference().getNode(current.parentKeys().iterator().next());
     }
 
     return current.get();
   }
 
+  /**
+   * Resolves the final node of the reference chain, so that later calls do not follow references.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void link() {
+    Node<T> current = this;
+
+    while (current instanceof RefersTo) {
+      current = (Node<T>) injectorReference().getNode(current.parentKeys().iterator().next());
+    }
+
+    this.target = current;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable T constant() {
+    return (T) injectorReference().getNode(parentKeys().iterator().next()).constant();
+  }
+
   /** {@inheritDoc} */
   @Override
   public Node<T> copy(InjectorReference newInjector) {
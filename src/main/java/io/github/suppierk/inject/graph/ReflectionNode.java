@@ -28,11 +28,15 @@ import io.github.suppierk.inject.InjectorReference;
 import io.github.suppierk.inject.Key;
 import io.github.suppierk.inject.ParameterInformation;
 import jakarta.inject.Provider;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
@@ -43,9 +47,22 @@ import org.jspecify.annotations.Nullable;
  * @param <T> is the type of the instance this node refers to
  */
 public abstract class ReflectionNode<T> extends Node<T> {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType FIELD_SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
   private final Set<Key<?>> requiredParentKeys;
   private final List<ParameterInformation> parametersInformation;
   private final List<FieldInformation> fieldsInformation;
+  private final @Nullable MethodHandle[] fieldSetters;
+
+  // Lazily validated injectors link nodes after they are constructed, hence volatile
+  private volatile Node<?> @Nullable [] parameterNodes;
+  private volatile Node<?> @Nullable [] fieldNodes;
+
+  // Frozen constants are published after the injector is constructed, hence volatile
+  private volatile @Nullable Object @Nullable [] parameterConstants;
+  private volatile @Nullable Object @Nullable [] fieldConstants;
 
   /**
    * Default constructor.
@@ -70,6 +87,7 @@ public abstract class ReflectionNode<T> extends Node<T> {
             checkedParametersInformation, checkedFieldsInformation, extraParentKeys);
     this.parametersInformation = List.copyOf(checkedParametersInformation);
     this.fieldsInformation = List.copyOf(checkedFieldsInformation);
+    this.fieldSetters = createFieldSetters(this.fieldsInformation);
   }
 
   /**
@@ -92,18 +110,59 @@ public abstract class ReflectionNode<T> extends Node<T> {
     return requiredParentKeys;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void link() {
+    final var linkedParameterNodes = new Node<?>[parametersInformation.size()];
+    for (int i = 0; i < linkedParameterNodes.length; i++) {
+      linkedParameterNodes[i] =
+          injectorReference().getNode(parametersInformation.get(i).getQualifierKey());
+    }
+
+    final var linkedFieldNodes = new Node<?>[fieldsInformation.size()];
+    for (int i = 0; i < linkedFieldNodes.length; i++) {
+      linkedFieldNodes[i] = injectorReference().getNode(fieldsInformation.get(i).getQualifierKey());
+    }
+
+    this.parameterNodes = linkedParameterNodes;
+    this.fieldNodes = linkedFieldNodes;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void freeze() {
+    final var linkedParameterNodes = parameterNodes;
+    final var linkedFieldNodes = fieldNodes;
+    if (linkedParameterNodes == null || linkedFieldNodes == null) {
+      return;
+    }
+
+    this.parameterConstants =
+        freeze(linkedParameterNodes, parametersInformation, ParameterInformation::getWrapper);
+    this.fieldConstants = freeze(linkedFieldNodes, fieldsInformation, FieldInformation::getWrapper);
+  }
+
   /**
    * Create an array of arguments for instantiation method invocation.
    *
    * @return an array of objects to serve as method arguments
    */
   protected Object[] createArguments() {
-    final Object[] args = new Object[parametersInformation().size()];
+    final var linkedParameterNodes = parameterNodes;
+    final var frozenParameterConstants = parameterConstants;
+    final Object[] args = new Object[parametersInformation.size()];
 
-    for (int i = 0; i < parametersInformation().size(); i++) {
-      final var currentParameter = parametersInformation().get(i);
-      final var currentParameterNode =
-          injectorReference().getNode(currentParameter.getQualifierKey());
+    for (int i = 0; i < args.length; i++) {
+      if (frozenParameterConstants != null && frozenParameterConstants[i] != null) {
+        args[i] = frozenParameterConstants[i];
+        continue;
+      }
+
+      final var currentParameter = parametersInformation.get(i);
+      final Node<?> currentParameterNode =
+          linkedParameterNodes == null
+              ? injectorReference().getNode(currentParameter.getQualifierKey())
+              : linkedParameterNodes[i];
 
       if (currentParameter.getWrapper() == null) {
         args[i] = currentParameterNode.get();
@@ -122,28 +181,35 @@ public abstract class ReflectionNode<T> extends Node<T> {
    * @return an original object instance with injected fields
    * @throws IllegalAccessException if we cannot access the field to inject the value into
    */
-  @SuppressWarnings("squid:S3011")
   protected T injectFields(T instance) throws IllegalAccessException {
-    if (fieldsInformation().isEmpty()) {
+    if (fieldsInformation.isEmpty()) {
       return instance;
     }
 
-    for (FieldInformation fieldInformation : fieldsInformation()) {
-      if (fieldInformation.getField().trySetAccessible()) {
-        final var currentFieldNode =
-            injectorReference().getNode(fieldInformation.getQualifierKey());
+    final var linkedFieldNodes = fieldNodes;
+    final var frozenFieldConstants = fieldConstants;
+    for (int i = 0; i < fieldsInformation.size(); i++) {
+      final var fieldInformation = fieldsInformation.get(i);
+      final var fieldSetter = fieldSetters[i];
+      if (fieldSetter == null) {
+        throw new IllegalArgumentException("Unable to access field " + fieldInformation.getField());
+      }
+
+      Object value = frozenFieldConstants == null ? null : frozenFieldConstants[i];
+      if (value == null) {
+        final Node<?> currentFieldNode =
+            linkedFieldNodes == null
+                ? injectorReference().getNode(fieldInformation.getQualifierKey())
+                : linkedFieldNodes[i];
 
-        Object value;
         if (fieldInformation.getWrapper() == null) {
           value = currentFieldNode.get();
         } else {
           value = currentFieldNode;
         }
-
-        fieldInformation.getField().set(instance, value);
-      } else {
-        throw new IllegalArgumentException("Unable to access field " + fieldInformation.getField());
       }
+
+      setField(fieldSetter, instance, value);
     }
 
     return instance;
@@ -167,6 +233,80 @@ public abstract class ReflectionNode<T> extends Node<T> {
         super.hashCode(), requiredParentKeys, parametersInformation, fieldsInformation);
   }
 
+  /**
+   * Captures constant instances of the linked nodes.
+   *
+   * <p>Wrapped dependencies are skipped, because wrappers receive the node itself.
+   *
+   * @param linkedNodes to capture constants from
+   * @param informations about each dependency
+   * @param wrapperGetter to check whether the dependency is wrapped
+   * @param <I> is the type of the dependency information
+   * @return an array of constants, containing {@code null} for every non-constant dependency, or
+   *     {@code null} if there are no constants at all
+   */
+  private static <I> @Nullable Object @Nullable [] freeze(
+      Node<?>[] linkedNodes, List<I> informations, Function<I, @Nullable Class<?>> wrapperGetter) {
+    final var constants = new @Nullable Object[linkedNodes.length];
+    var hasConstants = false;
+
+    for (int i = 0; i < constants.length; i++) {
+      if (wrapperGetter.apply(informations.get(i)) == null) {
+        constants[i] = linkedNodes[i].constant();
+        hasConstants |= constants[i] != null;
+      }
+    }
+
+    return hasConstants ? constants : null;
+  }
+
+  /**
+   * Prepares setters for every injectable field, so that access checks happen only once per node.
+   *
+   * <p>Setters are obtained with {@link
+   * MethodHandles.Lookup#unreflectSetter(java.lang.reflect.Field)} as it respects the accessible
+   * flag of the field, contrary to variable handles.
+   *
+   * @param fieldsInformation to create setters for
+   * @return an array of {@code (Object, Object)void} setters, containing {@code null} for every
+   *     field which cannot be accessed
+   */
+  @SuppressWarnings("squid:S3011")
+  private static @Nullable MethodHandle[] createFieldSetters(
+      List<FieldInformation> fieldsInformation) {
+    final var setters = new @Nullable MethodHandle[fieldsInformation.size()];
+
+    for (int i = 0; i < setters.length; i++) {
+      final var field = fieldsInformation.get(i).getField();
+      if (field.trySetAccessible()) {
+        try {
+          setters[i] = LOOKUP.unreflectSetter(field).asType(FIELD_SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+          // Reported as inaccessible during injection, same as fields without accessible flag
+        }
+      }
+    }
+
+    return setters;
+  }
+
+  /**
+   * Sets the field value using prepared setter.
+   *
+   * @param fieldSetter of {@code (Object, Object)void} type
+   * @param instance to set the field for
+   * @param value to set
+   */
+  private static void setField(MethodHandle fieldSetter, Object instance, @Nullable Object value) {
+    try {
+      fieldSetter.invokeExact(instance, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Shortcut to concat multiple collections together into a single immutable {@link Set}.
    *
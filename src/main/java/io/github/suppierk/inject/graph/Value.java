@@ -80,6 +80,12 @@ public final class Value<T> extends Node<T> {
     return instance;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public T constant() {
+    return instance;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Node<T> copy(InjectorReference newInjector) {
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.internal;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import org.jspecify.annotations.Nullable;
+
+/** Locates class files of loaded classes without searching the class path for them. */
+public final class ClassFiles {
+  private ClassFiles() {
+    // Utility class
+  }
+
+  /**
+   * @param clazz to locate
+   * @return JAR file or directory the class was loaded from, or {@code null} if it is not a local
+   *     file
+   */
+  public static @Nullable Path location(Class<?> clazz) {
+    final var codeSource = clazz.getProtectionDomain().getCodeSource();
+    final var location = codeSource == null ? null : codeSource.getLocation();
+    if (location == null || !"file".equals(location.getProtocol())) {
+      return null;
+    }
+
+    try {
+      return Path.of(location.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @param directory the class was loaded from
+   * @param clazz to locate
+   * @return class file of the class within the directory
+   */
+  public static Path classFile(Path directory, Class<?> clazz) {
+    return directory.resolve(clazz.getName().replace('.', '/') + ".class");
+  }
+}
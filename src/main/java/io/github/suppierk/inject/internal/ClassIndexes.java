@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.internal;
+
+import io.github.suppierk.inject.spi.ClassDescriptor;
+import io.github.suppierk.inject.spi.ClassIndex;
+import io.github.suppierk.inject.spi.Invoker;
+import io.github.suppierk.inject.spi.MemberDescriptor;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Looks classes up in {@link ClassIndex}es visible to their own class loader.
+ *
+ * <p>Each class is looked up once, on first use, and only indexes from its own package are asked to
+ * describe it. Descriptors are attached to the described class, so that they are unloaded together
+ * with it. Classes which are not indexed, or whose index cannot be loaded, are scanned through
+ * reflection instead.
+ *
+ * <p>Descriptors are trusted only if the index was compiled together with the class and its
+ * superclasses, which is checked without looking at their members: they must be loaded from the
+ * same JAR or directory as the index, and in a directory their class files must not be newer than
+ * the one of the index. The compiler writes the index after the classes it was generated for, so
+ * that a class recompiled later without the annotation processor leaves its index stale.
+ *
+ * <p>Class loaders are searched for indexes once. Only names of the found indexes are kept, so that
+ * class loaders can still be unloaded.
+ */
+public final class ClassIndexes {
+  private static volatile ClassValue<Optional<ClassDescriptor>> descriptors = newDescriptors();
+  private static volatile Map<ClassLoader, Map<String, List<String>>> indexNames = newIndexNames();
+
+  private ClassIndexes() {
+    // Utility class
+  }
+
+  /**
+   * @param clazz to find descriptor for
+   * @return descriptor of the class, or {@code null} if the class is not indexed
+   */
+  public static @Nullable ClassDescriptor find(Class<?> clazz) {
+    return descriptors.get(clazz).orElse(null);
+  }
+
+  /**
+   * @param constructor to find compiled invoker for
+   * @return compiled invoker of the constructor, or {@code null} if it is not available
+   */
+  public static @Nullable Invoker invoker(Constructor<?> constructor) {
+    final var descriptor = find(constructor.getDeclaringClass());
+    if (descriptor == null) {
+      return null;
+    }
+
+    final var constructorDescriptor = descriptor.getConstructor();
+    return constructorDescriptor != null && constructorDescriptor.matches(constructor)
+        ? constructorDescriptor.getInvoker()
+        : null;
+  }
+
+  /**
+   * @param method to find compiled invoker for
+   * @return compiled invoker of the method, or {@code null} if it is not available
+   */
+  public static @Nullable Invoker invoker(Method method) {
+    final var descriptor = find(method.getDeclaringClass());
+    if (descriptor == null) {
+      return null;
+    }
+
+    for (MemberDescriptor methodDescriptor : descriptor.getProviderMethods()) {
+      if (methodDescriptor.matches(method)) {
+        return methodDescriptor.getInvoker();
+      }
+    }
+
+    return null;
+  }
+
+  /** Discards looked up descriptors, so that indexes are searched for again on next use. */
+  public static void reload() {
+    indexNames = newIndexNames();
+    descriptors = newDescriptors();
+  }
+
+  /**
+   * @return empty cache of descriptors
+   */
+  private static ClassValue<Optional<ClassDescriptor>> newDescriptors() {
+    return new ClassValue<>() {
+      @Override
+      protected Optional<ClassDescriptor> computeValue(Class<?> type) {
+        return Optional.ofNullable(load(type));
+      }
+    };
+  }
+
+  /**
+   * @return empty cache of index names
+   */
+  private static Map<ClassLoader, Map<String, List<String>>> newIndexNames() {
+    return Collections.synchronizedMap(new WeakHashMap<>());
+  }
+
+  /**
+   * @param type to describe
+   * @return descriptor of the class from the first index of its package which describes it, or
+   *     {@code null} if there is none
+   */
+  private static @Nullable ClassDescriptor load(Class<?> type) {
+    final var classLoader = type.getClassLoader();
+    if (classLoader == null) {
+      return null;
+    }
+
+    final var names =
+        indexNames
+            .computeIfAbsent(classLoader, ClassIndexes::findIndexNames)
+            .getOrDefault(type.getPackageName(), List.of());
+    for (String name : names) {
+      try {
+        final var index =
+            Class.forName(name, false, classLoader)
+                .asSubclass(ClassIndex.class)
+                .getConstructor()
+                .newInstance();
+
+        final var descriptor = index.describe(type);
+        if (descriptor != null && descriptor.getType() == type) {
+          return isCurrent(index.getClass(), type) ? descriptor : null;
+        }
+      } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+        // Index is an optimization only, classes it fails to describe are scanned via reflection
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @param indexType of the index describing the class
+   * @param type described by the index
+   * @return {@code true} if the index was compiled together with the class and its superclasses
+   */
+  private static boolean isCurrent(Class<?> indexType, Class<?> type) {
+    final var location = ClassFiles.location(indexType);
+    if (location == null) {
+      return false;
+    }
+
+    try {
+      final var indexModified =
+          Files.isDirectory(location)
+              ? Files.getLastModifiedTime(ClassFiles.classFile(location, indexType))
+              : null;
+
+      // Superclasses from the platform cannot change together with the class
+      Class<?> current = type;
+      while (current != null && !isPlatformClass(current)) {
+        if (!location.equals(ClassFiles.location(current))) {
+          return false;
+        }
+
+        if (indexModified != null
+            && Files.getLastModifiedTime(ClassFiles.classFile(location, current))
+                    .compareTo(indexModified)
+                > 0) {
+          return false;
+        }
+
+        current = current.getSuperclass();
+      }
+
+      return true;
+    } catch (IOException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @param type to check
+   * @return {@code true} if the class is loaded by the bootstrap or the platform class loader
+   */
+  private static boolean isPlatformClass(Class<?> type) {
+    final var classLoader = type.getClassLoader();
+    return classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+  }
+
+  /**
+   * @param classLoader to search indexes in
+   * @return names of the indexes grouped by their package
+   */
+  private static Map<String, List<String>> findIndexNames(ClassLoader classLoader) {
+    final var names = new HashMap<String, List<String>>();
+
+    final var iterator = ServiceLoader.load(ClassIndex.class, classLoader).stream().iterator();
+    while (hasNext(iterator)) {
+      try {
+        final var indexType = iterator.next().type();
+        names
+            .computeIfAbsent(indexType.getPackageName(), packageName -> new ArrayList<>(1))
+            .add(indexType.getName());
+      } catch (ServiceConfigurationError | LinkageError e) {
+        // Index is an optimization only, classes it fails to describe are scanned via reflection
+      }
+    }
+
+    return names;
+  }
+
+  /**
+   * @param iterator over indexes
+   * @return {@code true} if there is another index to load, {@code false} if there are no more
+   *     indexes or their configuration is broken
+   */
+  private static boolean hasNext(Iterator<ServiceLoader.Provider<ClassIndex>> iterator) {
+    try {
+      return iterator.hasNext();
+    } catch (ServiceConfigurationError e) {
+      return false;
+    }
+  }
+}
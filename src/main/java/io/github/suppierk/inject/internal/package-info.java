@@ -0,0 +1,8 @@
+/**
+ * Implementation details shared between packages of the injector, not exported from its module and
+ * not meant to be used directly.
+ */
+@NullMarked
+package io.github.suppierk.inject.internal;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.spi;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Describes injectable members of a class, as discovered at compile time.
+ *
+ * <p>Mirrors what builders otherwise discover through reflection: the injectable constructor,
+ * injectable fields of the class and its superclasses, as well as {@code Provides} methods which
+ * are not overridden.
+ */
+public final class ClassDescriptor {
+  private final Class<?> type;
+  private final @Nullable MemberDescriptor constructor;
+  private final List<MemberDescriptor> fields;
+  private final List<MemberDescriptor> providerMethods;
+
+  /**
+   * Default constructor.
+   *
+   * @param type described by this descriptor
+   * @param constructor injectable constructor, or {@code null} if the class is not instantiable
+   * @param fields injectable fields of the class and its superclasses
+   * @param providerMethods of the class and its superclasses
+   * @throws IllegalArgumentException if any argument except constructor is {@code null}
+   */
+  public ClassDescriptor(
+      @Nullable Class<?> type,
+      @Nullable MemberDescriptor constructor,
+      @Nullable List<MemberDescriptor> fields,
+      @Nullable List<MemberDescriptor> providerMethods) {
+    if (type == null) {
+      throw new IllegalArgumentException("Type is null");
+    }
+
+    if (fields == null) {
+      throw new IllegalArgumentException("Fields is null");
+    }
+
+    if (providerMethods == null) {
+      throw new IllegalArgumentException("Provider methods is null");
+    }
+
+    this.type = type;
+    this.constructor = constructor;
+    this.fields = List.copyOf(fields);
+    this.providerMethods = List.copyOf(providerMethods);
+  }
+
+  /**
+   * @return type described by this descriptor
+   */
+  @SuppressWarnings("squid:S1452")
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * @return injectable constructor, or {@code null} if the class is not instantiable
+   */
+  public @Nullable MemberDescriptor getConstructor() {
+    return constructor;
+  }
+
+  /**
+   * @return injectable fields of the class and its superclasses
+   */
+  public List<MemberDescriptor> getFields() {
+    return fields;
+  }
+
+  /**
+   * @return provider methods of the class and its superclasses
+   */
+  public List<MemberDescriptor> getProviderMethods() {
+    return providerMethods;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (!(o instanceof ClassDescriptor)) return false;
+    ClassDescriptor that = (ClassDescriptor) o;
+    return Objects.equals(type, that.type)
+        && Objects.equals(constructor, that.constructor)
+        && Objects.equals(fields, that.fields)
+        && Objects.equals(providerMethods, that.providerMethods);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, constructor, fields, providerMethods);
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", ClassDescriptor.class.getSimpleName() + "[", "]")
+        .add("type=" + type.getName())
+        .add("constructor=" + constructor)
+        .add("fields=" + fields)
+        .add("providerMethods=" + providerMethods)
+        .toString();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.spi;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compile-time index of injectable classes.
+ *
+ * <p>Implementations are generated by the {@code inject-processor} annotation processor and
+ * discovered through {@link ServiceLoader}. Builders use indexed metadata instead of scanning
+ * classes through reflection, and fall back to reflection for classes which are not indexed.
+ *
+ * <p>Each class is looked up in indexes of its own package, loaded through its own class loader.
+ */
+public interface ClassIndex {
+  /**
+   * @return descriptors of indexed classes
+   */
+  List<ClassDescriptor> descriptors();
+
+  /**
+   * Describes a single class.
+   *
+   * <p>Implementations should override this method to avoid creating descriptors of other classes.
+   *
+   * @param type to describe
+   * @return descriptor of the class, or {@code null} if the class is not indexed
+   */
+  default @Nullable ClassDescriptor describe(Class<?> type) {
+    for (ClassDescriptor descriptor : descriptors()) {
+      if (descriptor.getType() == type) {
+        return descriptor;
+      }
+    }
+
+    return null;
+  }
+}
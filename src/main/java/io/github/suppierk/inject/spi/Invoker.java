@@ -0,0 +1,41 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.spi;
+
+import org.jspecify.annotations.Nullable;
+
+/** Compiled invocation of a constructor or a provider method, which requires no reflection. */
+@FunctionalInterface
+public interface Invoker {
+  /**
+   * Invokes the underlying constructor or method.
+   *
+   * @param receiver instance to invoke the method on, ignored by constructors and static methods
+   * @param arguments for the invocation, in declaration order
+   * @return created instance
+   * @throws Throwable if the underlying constructor or method throws an exception
+   */
+  @SuppressWarnings("java:S112")
+  @Nullable Object invoke(@Nullable Object receiver, Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.spi;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.jspecify.annotations.Nullable;
+
+/** Identifies a constructor, a method or a field of an indexed class. */
+public final class MemberDescriptor {
+  /** Name used to describe constructors, matching the name used by the JVM. */
+  public static final String CONSTRUCTOR_NAME = "<init>";
+
+  private final Class<?> declaringClass;
+  private final String name;
+  private final List<Class<?>> parameterTypes;
+  private final @Nullable Invoker invoker;
+
+  /**
+   * Default constructor.
+   *
+   * @param declaringClass of the member
+   * @param name of the member, {@link #CONSTRUCTOR_NAME} for constructors
+   * @param parameterTypes of the constructor or method, empty for fields
+   * @param invoker of the constructor or method, if it is accessible to the generated index
+   * @throws IllegalArgumentException if any argument except invoker is {@code null}
+   */
+  public MemberDescriptor(
+      @Nullable Class<?> declaringClass,
+      @Nullable String name,
+      @Nullable List<Class<?>> parameterTypes,
+      @Nullable Invoker invoker) {
+    if (declaringClass == null) {
+      throw new IllegalArgumentException("Declaring class is null");
+    }
+
+    if (name == null) {
+      throw new IllegalArgumentException("Name is null");
+    }
+
+    if (parameterTypes == null) {
+      throw new IllegalArgumentException("Parameter types is null");
+    }
+
+    this.declaringClass = declaringClass;
+    this.name = name;
+    this.parameterTypes = List.copyOf(parameterTypes);
+    this.invoker = invoker;
+  }
+
+  /**
+   * Describes a constructor.
+   *
+   * @param declaringClass of the constructor
+   * @param invoker of the constructor, if it is accessible to the generated index
+   * @param parameterTypes of the constructor
+   * @return new descriptor
+   */
+  public static MemberDescriptor constructor(
+      Class<?> declaringClass, @Nullable Invoker invoker, Class<?>... parameterTypes) {
+    return new MemberDescriptor(
+        declaringClass, CONSTRUCTOR_NAME, Arrays.asList(parameterTypes), invoker);
+  }
+
+  /**
+   * Describes a method.
+   *
+   * @param declaringClass of the method
+   * @param name of the method
+   * @param invoker of the method, if it is accessible to the generated index
+   * @param parameterTypes of the method
+   * @return new descriptor
+   */
+  public static MemberDescriptor method(
+      Class<?> declaringClass, String name, @Nullable Invoker invoker, Class<?>... parameterTypes) {
+    return new MemberDescriptor(declaringClass, name, Arrays.asList(parameterTypes), invoker);
+  }
+
+  /**
+   * Describes a field.
+   *
+   * @param declaringClass of the field
+   * @param name of the field
+   * @return new descriptor
+   */
+  public static MemberDescriptor field(Class<?> declaringClass, String name) {
+    return new MemberDescriptor(declaringClass, name, List.of(), null);
+  }
+
+  /**
+   * @return declaring class of the member
+   */
+  @SuppressWarnings("squid:S1452")
+  public Class<?> getDeclaringClass() {
+    return declaringClass;
+  }
+
+  /**
+   * @return name of the member, {@link #CONSTRUCTOR_NAME} for constructors
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return parameter types of the constructor or method, empty for fields
+   */
+  @SuppressWarnings("squid:S1452")
+  public List<Class<?>> getParameterTypes() {
+    return parameterTypes;
+  }
+
+  /**
+   * @return compiled invoker of the constructor or method, or {@code null} if it is not available
+   */
+  public @Nullable Invoker getInvoker() {
+    return invoker;
+  }
+
+  /**
+   * @param executable to compare with
+   * @return {@code true} if this descriptor identifies the constructor or method
+   */
+  public boolean matches(Executable executable) {
+    return declaringClass.equals(executable.getDeclaringClass())
+        && (executable instanceof Constructor<?>
+            ? CONSTRUCTOR_NAME.equals(name)
+            : name.equals(executable.getName()))
+        && parameterTypes.equals(Arrays.asList(executable.getParameterTypes()));
+  }
+
+  /**
+   * @param field to compare with
+   * @return {@code true} if this descriptor identifies the field
+   */
+  public boolean matches(Field field) {
+    return declaringClass.equals(field.getDeclaringClass()) && name.equals(field.getName());
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (!(o instanceof MemberDescriptor)) return false;
+    MemberDescriptor that = (MemberDescriptor) o;
+    return Objects.equals(declaringClass, that.declaringClass)
+        && Objects.equals(name, that.name)
+        && Objects.equals(parameterTypes, that.parameterTypes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(declaringClass, name, parameterTypes);
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", MemberDescriptor.class.getSimpleName() + "[", "]")
+        .add("declaringClass=" + declaringClass.getName())
+        .add("name=" + name)
+        .add("parameterTypes=" + parameterTypes)
+        .toString();
+  }
+}
@@ -0,0 +1,5 @@
+/** Service provider interfaces for compile-time class indexes consulted by the injector. */
+@NullMarked
+package io.github.suppierk.inject.spi;
+
+import org.jspecify.annotations.NullMarked;
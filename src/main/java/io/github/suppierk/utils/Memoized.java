@@ -24,10 +24,11 @@
 package io.github.suppierk.utils;
 
 import jakarta.inject.Provider;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -47,9 +48,24 @@ import org.jspecify.annotations.Nullable;
  * @see <a href="https://en.wikipedia.org/wiki/Memoization">Memoization on Wikipedia</a>
  */
 public final class Memoized<T> implements Provider<T>, Supplier<T> {
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup().findVarHandle(Memoized.class, "state", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
   private final Provider<T> provider;
-  private final Lock lock;
-  private final AtomicReference<@Nullable T> value;
+
+  /**
+   * Either {@code null} if the value is not evaluated, {@link Flight} while the value is being
+   * evaluated, or the evaluated value itself.
+   */
+  @SuppressWarnings("unused")
+  private @Nullable Object state;
 
   /**
    * Default constructor.
@@ -63,8 +79,6 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
     }
 
     this.provider = provider;
-    this.lock = new ReentrantLock();
-    this.value = new AtomicReference<>(null);
   }
 
   /**
@@ -96,51 +110,96 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
   }
 
   /**
-   * Double-checked locking with {@link Lock} instead of {@code synchronized} to facilitate its
-   * usage on newer JVM versions affected by thread pinning problem.
+   * Single-flight evaluation without locks: the first thread publishes a transient {@link Flight}
+   * marker and invokes {@link Provider}, while concurrent threads park until the flight lands. Once
+   * evaluated, the value is read with a single acquire load.
    *
-   * <p>Despite {@link AtomicReference}, we use explicit locking to solve the problem of avoiding
-   * excessive {@link Provider} calls which would have occurred if we would use {@link
-   * AtomicReference#compareAndSet(Object, Object)}.
+   * <p>Parking with {@link LockSupport} instead of {@code synchronized} avoids the thread pinning
+   * problem on newer JVM versions. If {@link Provider} fails, the state is reset and one of the
+   * waiting threads retries the evaluation.
    *
    * @return computed value
    * @throws IllegalArgumentException if {@link Provider} returns {@code null}
+   * @throws IllegalStateException if the value is requested by {@link Provider} itself
    * @see <a href="https://openjdk.org/jeps/491">JEP to fix thread pinning problem</a>
    */
   @Override
+  @SuppressWarnings("unchecked")
   public T get() {
-    T localRef = value.get();
+    final var current = STATE.getAcquire(this);
+
+    if (current != null && !(current instanceof Flight)) {
+      return (T) current;
+    }
+
+    return evaluate();
+  }
+
+  /**
+   * Slow path of {@link #get()}, either evaluating the value or waiting for its evaluation.
+   *
+   * @return computed value
+   */
+  @SuppressWarnings("unchecked")
+  private T evaluate() {
+    Flight flight = null;
 
-    if (localRef == null) {
-      lock.lock();
-      try {
-        localRef = value.get();
+    while (true) {
+      final var current = STATE.getAcquire(this);
 
-        if (localRef == null) {
-          final T computedValue = provider.get();
+      if (current == null) {
+        if (flight == null) {
+          flight = new Flight(Thread.currentThread());
+        }
 
-          if (computedValue == null) {
-            throw new IllegalArgumentException("Provider returned null");
-          }
+        if (STATE.compareAndSet(this, null, flight)) {
+          return evaluate(flight);
+        }
+      } else if (current instanceof Flight) {
+        final var currentFlight = (Flight) current;
 
-          value.set(computedValue);
-          localRef = computedValue;
+        if (currentFlight.owner == Thread.currentThread()) {
+          throw new IllegalStateException("Recursive evaluation of memoized value");
         }
-      } finally {
-        lock.unlock();
+
+        currentFlight.await();
+      } else {
+        return (T) current;
       }
     }
+  }
 
-    return Objects.requireNonNull(localRef);
+  /**
+   * Invokes {@link Provider} on behalf of the flight, releasing waiting threads afterwards.
+   *
+   * @param flight owned by the current thread
+   * @return computed value
+   */
+  private T evaluate(Flight flight) {
+    try {
+      final T computedValue = provider.get();
+
+      if (computedValue == null) {
+        throw new IllegalArgumentException("Provider returned null");
+      }
+
+      STATE.setRelease(this, computedValue);
+      return computedValue;
+    } catch (RuntimeException | Error e) {
+      STATE.setRelease(this, null);
+      throw e;
+    } finally {
+      flight.land();
+    }
   }
 
   /**
-   * Used in tests to determine that the lock is unlocked.
+   * Used in tests to determine that the value is being evaluated.
    *
-   * @return {@code true} if there is some thread holding the lock
+   * @return {@code true} if there is some thread evaluating the value
    */
-  boolean isLockReleased() {
-    return ((ReentrantLock) lock).getHoldCount() == 0;
+  boolean isEvaluating() {
+    return STATE.getAcquire(this) instanceof Flight;
   }
 
   /**
@@ -149,7 +208,7 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
    * @return {@code true} if a value is not evaluated, otherwise {@code false}
    */
   public boolean isEmpty() {
-    return value.get() == null;
+    return evaluated() == null;
   }
 
   /**
@@ -168,7 +227,7 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
    * @throws NullPointerException if value is evaluated and the given action is {@code null}
    */
   public void ifPresent(Consumer<T> action) {
-    final var localRef = value.get();
+    final var localRef = evaluated();
 
     if (localRef != null) {
       action.accept(localRef);
@@ -185,7 +244,7 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
    *     no value is evaluated and the given empty-based action is {@code null}.
    */
   public void ifPresentOrElse(Consumer<? super T> action, Runnable emptyAction) {
-    final var localRef = value.get();
+    final var localRef = evaluated();
 
     if (localRef != null) {
       action.accept(localRef);
@@ -194,6 +253,17 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
     }
   }
 
+  /**
+   * If a value is evaluated, returns the value, otherwise returns {@code other}.
+   *
+   * @param other the value to be returned if no value is evaluated, may be {@code null}
+   * @return the value, if evaluated, otherwise {@code other}
+   */
+  public @Nullable T orElse(@Nullable T other) {
+    final var localRef = evaluated();
+    return localRef != null ? localRef : other;
+  }
+
   /**
    * If a value is evaluated, returns a sequential {@link Stream} containing only that value,
    * otherwise returns an empty {@code Stream}.
@@ -209,12 +279,64 @@ public final class Memoized<T> implements Provider<T>, Supplier<T> {
    * @return the memoized value as a {@code Stream}
    */
   public Stream<T> stream() {
-    return Stream.ofNullable(value.get());
+    return Stream.ofNullable(evaluated());
   }
 
   /** {@inheritDoc} */
   @Override
   public String toString() {
-    return String.format("%s(%s)", getClass().getSimpleName(), value.get());
+    return String.format("%s(%s)", getClass().getSimpleName(), evaluated());
+  }
+
+  /**
+   * @return evaluated value or {@code null} if the value is not evaluated yet
+   */
+  @SuppressWarnings("unchecked")
+  private @Nullable T evaluated() {
+    final var current = STATE.getAcquire(this);
+    return current instanceof Flight ? null : (T) current;
+  }
+
+  /** Transient marker of the ongoing evaluation, tracking threads waiting for its outcome. */
+  private static final class Flight {
+    private final Thread owner;
+    private final Queue<Thread> waiters;
+    private volatile boolean landed;
+
+    /**
+     * Default constructor.
+     *
+     * @param owner thread evaluating the value
+     */
+    private Flight(Thread owner) {
+      this.owner = owner;
+      this.waiters = new ConcurrentLinkedQueue<>();
+    }
+
+    /** Parks the current thread until the evaluation completes, preserving interruption status. */
+    private void await() {
+      final var current = Thread.currentThread();
+      waiters.add(current);
+
+      var interrupted = false;
+      while (!landed) {
+        LockSupport.park(this);
+        interrupted |= Thread.interrupted();
+      }
+
+      if (interrupted) {
+        current.interrupt();
+      }
+    }
+
+    /** Marks the evaluation as completed and wakes up waiting threads. */
+    private void land() {
+      landed = true;
+
+      Thread waiter;
+      while ((waiter = waiters.poll()) != null) {
+        LockSupport.unpark(waiter);
+      }
+    }
   }
 }
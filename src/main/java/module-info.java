@@ -7,4 +7,7 @@ open module io.github.suppierk.inject {
   exports io.github.suppierk.utils;
   exports io.github.suppierk.inject.graph;
   exports io.github.suppierk.inject.query;
+  exports io.github.suppierk.inject.spi;
+
+  uses io.github.suppierk.inject.spi.ClassIndex;
 }
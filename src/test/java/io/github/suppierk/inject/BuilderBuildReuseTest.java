@@ -2,9 +2,11 @@ package io.github.suppierk.inject;
 
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
 
 class BuilderBuildReuseTest {
@@ -61,4 +63,17 @@ class BuilderBuildReuseTest {
 
     assertNotSame(first.get(SingletonService.class), second.get(SingletonService.class));
   }
+
+  @Test
+  void mutationsAfterBuildDoNotAffectBuiltInjector() {
+    final var builder = Injector.injector().add(SingletonService.class);
+
+    final var first = builder.build();
+    builder.add(CapturesInjector.class);
+    final var second = builder.build();
+
+    assertThrows(NoSuchElementException.class, () -> first.get(CapturesInjector.class));
+    assertSame(second, second.get(CapturesInjector.class).injector);
+    assertNotSame(first.get(SingletonService.class), second.get(SingletonService.class));
+  }
 }
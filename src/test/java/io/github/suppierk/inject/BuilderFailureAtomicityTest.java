@@ -198,4 +198,24 @@ class BuilderFailureAtomicityTest {
         () -> injector.get(String.class),
         "Failed duplicate value add must not keep earlier value bindings from the same batch");
   }
+
+  @Test
+  void failedVarargsAddAllowsRegisteringSameClassesAgain() {
+    final var builder = Injector.injector();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.add(ValidDependency.class, InvalidParameterizedProviderFactory.class),
+        "Invalid class in varargs batch must fail registration");
+
+    assertDoesNotThrow(
+        () -> builder.add(ValidDependency.class),
+        "Classes from the failed batch must be registrable again");
+
+    final var injector = assertDoesNotThrow(builder::build, "Builder must remain usable");
+
+    assertDoesNotThrow(
+        () -> injector.get(ValidDependency.class),
+        "Class registered after the failed batch must be available");
+  }
 }
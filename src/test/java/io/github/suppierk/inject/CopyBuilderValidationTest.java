@@ -1,5 +1,6 @@
 package io.github.suppierk.inject;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.inject.Inject;
@@ -14,6 +15,30 @@ class CopyBuilderValidationTest {
     CyclicReplacement(Original original) {}
   }
 
+  static class AcyclicReplacement extends CyclicReplacement {
+    @Inject
+    AcyclicReplacement() {
+      super(null);
+    }
+  }
+
+  static class Consumer {
+    @Inject
+    Consumer(Original original) {}
+  }
+
+  static class ConsumingReplacement extends Original {
+    @Inject
+    ConsumingReplacement(Consumer consumer) {}
+  }
+
+  static class IndependentConsumer extends Consumer {
+    @Inject
+    IndependentConsumer() {
+      super(null);
+    }
+  }
+
   abstract static class AbstractReplacement extends Original {
     AbstractReplacement() {}
   }
@@ -39,6 +64,40 @@ class CopyBuilderValidationTest {
         "Replacement cycle must fail during build instead of causing recursive resolution");
   }
 
+  @Test
+  void replacingKeyWhichClosedCycleRestoresBuild() {
+    final var injector =
+        Injector.injector()
+            .add(Original.class)
+            .build()
+            .copy()
+            .replace(Original.class, CyclicReplacement.class)
+            .replace(CyclicReplacement.class, AcyclicReplacement.class)
+            .build();
+
+    assertInstanceOf(
+        AcyclicReplacement.class,
+        injector.get(Original.class),
+        "Replacement of the key which closed the cycle must break it");
+  }
+
+  @Test
+  void replacingOtherKeyOnCycleRestoresBuild() {
+    final var injector =
+        Injector.injector()
+            .add(Original.class, Consumer.class)
+            .build()
+            .copy()
+            .replace(Original.class, ConsumingReplacement.class)
+            .replace(Consumer.class, IndependentConsumer.class)
+            .build();
+
+    assertInstanceOf(
+        ConsumingReplacement.class,
+        injector.get(Original.class),
+        "Replacement of another key on the cycle must break it");
+  }
+
   @Test
   void abstractReplacementClassFailsDuringReplacement() {
     final var builder = Injector.injector().add(Original.class).build().copy();
@@ -0,0 +1,85 @@
+package io.github.suppierk.inject;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DependencyOrderTest {
+  private static final Key<String> FIRST = Key.of(String.class);
+  private static final Key<Integer> SECOND = Key.of(Integer.class);
+  private static final Key<Long> THIRD = Key.of(Long.class);
+
+  @Test
+  void dependenciesRegisteredFirstAreTracked() {
+    final var order = new DependencyOrder();
+
+    assertTrue(order.add(FIRST, Set.of()), "Key without dependencies must be registered");
+    assertTrue(order.add(SECOND, Set.of(FIRST)), "Key with dependency must be registered");
+    assertTrue(order.add(THIRD, Set.of(SECOND)), "Key with dependency must be registered");
+
+    order.remove(FIRST);
+
+    assertFalse(order.add(FIRST, Set.of(THIRD)), "Cycle through the chain must be rejected");
+  }
+
+  @Test
+  void dependenciesRegisteredLaterAreMovedBeforeConsumers() {
+    final var order = new DependencyOrder();
+
+    assertTrue(order.add(THIRD, Set.of(SECOND)), "Missing dependency must be tolerated");
+    assertTrue(order.add(SECOND, Set.of(FIRST)), "Missing dependency must be tolerated");
+    assertTrue(order.add(FIRST, Set.of()), "Key without dependencies must be registered");
+
+    order.remove(FIRST);
+
+    assertFalse(order.add(FIRST, Set.of(THIRD)), "Cycle through reordered keys must be rejected");
+  }
+
+  @Test
+  void cycleIsRejectedAndLeavesOrderIntact() {
+    final var order = new DependencyOrder();
+
+    assertTrue(order.add(FIRST, Set.of(THIRD)), "Missing dependency must be tolerated");
+    assertTrue(order.add(SECOND, Set.of(FIRST)), "Key with dependency must be registered");
+    assertFalse(order.add(THIRD, Set.of(SECOND)), "Closing the cycle must be rejected");
+
+    assertTrue(order.add(THIRD, Set.of()), "Rejected key must not be registered");
+  }
+
+  @Test
+  void selfDependencyIsRejected() {
+    final var order = new DependencyOrder();
+
+    assertFalse(order.add(FIRST, Set.of(FIRST)), "Self dependency must be rejected");
+    assertTrue(order.add(FIRST, Set.of()), "Rejected key must not be registered");
+  }
+
+  @Test
+  void removedKeyCanBeRegisteredWithOtherDependencies() {
+    final var order = new DependencyOrder();
+
+    assertTrue(order.add(FIRST, Set.of()), "Key without dependencies must be registered");
+    assertTrue(order.add(SECOND, Set.of(FIRST)), "Key with dependency must be registered");
+
+    order.remove(FIRST);
+
+    assertFalse(order.add(FIRST, Set.of(SECOND)), "Consumer must still wait for removed key");
+    assertTrue(order.add(FIRST, Set.of(THIRD)), "Removed key must be registrable again");
+    assertFalse(order.add(THIRD, Set.of(SECOND)), "Restored edges must be tracked");
+    assertTrue(order.add(THIRD, Set.of()), "Key without dependencies must be registered");
+  }
+
+  @Test
+  void duplicateRegistrationIsRejected() {
+    final var order = new DependencyOrder();
+    order.add(FIRST, Set.of());
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> order.add(FIRST, Set.of()),
+        "Registered key must not be registered twice");
+  }
+}
@@ -17,6 +17,9 @@ class InjectorCloseIdempotencyTest {
     }
   }
 
+  @Singleton
+  static class ReplacementResource extends Resource {}
+
   @Test
   void closingInjectorTwiceClosesValueOnlyOnce() {
     final var resource = new Resource();
@@ -38,4 +41,20 @@ class InjectorCloseIdempotencyTest {
 
     assertEquals(1, resource.closeCount.get(), "Singleton must be closed at most once");
   }
+
+  @Test
+  void closingInjectorClosesReplacedSingletonOnlyOnce() {
+    final var injector =
+        Injector.injector()
+            .add(Resource.class)
+            .build()
+            .copy()
+            .replace(Resource.class, ReplacementResource.class)
+            .build();
+    final var resource = injector.get(Resource.class);
+
+    injector.close();
+
+    assertEquals(1, resource.closeCount.get(), "Replacement must be closed only once");
+  }
 }
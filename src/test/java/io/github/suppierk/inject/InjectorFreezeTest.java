@@ -0,0 +1,148 @@
+package io.github.suppierk.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.suppierk.inject.graph.ReflectionNode;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InjectorFreezeTest {
+  static final AtomicInteger LATE_SINGLETONS = new AtomicInteger();
+
+  @Singleton
+  static class SingletonDependency {}
+
+  @Singleton
+  static class LateSingletonDependency {
+    LateSingletonDependency() {
+      LATE_SINGLETONS.incrementAndGet();
+    }
+  }
+
+  static class Consumer {
+    final SingletonDependency singletonDependency;
+    final String value;
+    final Provider<SingletonDependency> singletonProvider;
+
+    @Inject LateSingletonDependency lateSingletonDependency;
+
+    @Inject
+    Consumer(
+        SingletonDependency singletonDependency,
+        String value,
+        Provider<SingletonDependency> singletonProvider) {
+      this.singletonDependency = singletonDependency;
+      this.value = value;
+      this.singletonProvider = singletonProvider;
+    }
+  }
+
+  @Singleton
+  static class Factory {
+    @Provides
+    @Named("provided")
+    String provided(SingletonDependency singletonDependency) {
+      return "provided";
+    }
+  }
+
+  @Test
+  void frozenInjectorMustKeepInjectingSameSingletons() {
+    final var injector =
+        Injector.injector()
+            .add(SingletonDependency.class, LateSingletonDependency.class, Consumer.class)
+            .add("value")
+            .build();
+
+    final var before = injector.get(Consumer.class);
+    final var after = injector.freeze().get(Consumer.class);
+
+    assertNotSame(before, after, "Freezing must not affect non-singleton dependents");
+    assertSame(
+        before.singletonDependency,
+        after.singletonDependency,
+        "Frozen singleton must be injected into constructors");
+    assertSame(
+        before.lateSingletonDependency,
+        after.lateSingletonDependency,
+        "Frozen singleton must be injected into fields");
+    assertEquals("value", after.value, "Frozen value must be injected");
+    assertSame(
+        before.singletonDependency,
+        after.singletonProvider.get(),
+        "Wrapped dependencies must still resolve through the node");
+  }
+
+  @Test
+  void freezingMustNotCreateSingletons() {
+    final var injector =
+        Injector.injector()
+            .add(SingletonDependency.class, LateSingletonDependency.class, Consumer.class)
+            .add("value")
+            .build();
+
+    final var created = LATE_SINGLETONS.get();
+    injector.freeze();
+    assertEquals(created, LATE_SINGLETONS.get(), "Freezing must not create singletons");
+
+    final var first = injector.get(Consumer.class);
+    final var second = injector.freeze().get(Consumer.class);
+
+    assertEquals(created + 1, LATE_SINGLETONS.get(), "Singleton must be created once");
+    assertSame(
+        first.lateSingletonDependency,
+        second.lateSingletonDependency,
+        "Singleton created after freezing must be captured by the next freezing");
+  }
+
+  @Test
+  void frozenInjectorMustUseFrozenFactoryInstances() {
+    final var injector = Injector.injector().add(SingletonDependency.class, Factory.class).build();
+    final var key = injector.findOne(String.class).orElseThrow();
+
+    final var before = injector.get(key);
+    final var after = injector.freeze().get(key);
+
+    assertEquals("provided", before, "Provider must be invoked before freezing");
+    assertEquals("provided", after, "Provider must be invoked on frozen factory instance");
+  }
+
+  @Test
+  void lazilyValidatedInjectorMustFreezeValidatedNodes() throws ReflectiveOperationException {
+    final var injector =
+        Injector.injector()
+            .validation(Validation.LAZY)
+            .add(SingletonDependency.class, LateSingletonDependency.class, Consumer.class)
+            .add("value")
+            .build();
+
+    final var before = injector.get(Consumer.class);
+    final var after = injector.freeze().get(Consumer.class);
+
+    final var parameterConstants = ReflectionNode.class.getDeclaredField("parameterConstants");
+    parameterConstants.setAccessible(true);
+    final var constants =
+        (Object[]) parameterConstants.get(injector.getNode(Key.of(Consumer.class)));
+
+    assertNotNull(constants, "Validated node must be linked and frozen");
+    assertSame(before.singletonDependency, constants[0], "Frozen singleton must be captured");
+    assertSame(before.singletonDependency, after.singletonDependency);
+  }
+
+  @Test
+  void closedInjectorCannotBeFrozen() {
+    final var injector = Injector.injector().build();
+    injector.close();
+
+    assertThrows(
+        IllegalStateException.class, injector::freeze, "Closed injector must not be frozen");
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.suppierk.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.graph.Node;
+import io.github.suppierk.inject.graph.RefersTo;
+import io.github.suppierk.inject.graph.Value;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class InjectorIdOrderTest {
+  private static final Key<Integer> INTEGER = Key.of(Integer.class);
+  private static final Key<Long> LONG = Key.of(Long.class);
+  private static final Key<Short> SHORT = Key.of(Short.class);
+  private static final Key<String> STRING = Key.of(String.class);
+
+  @Test
+  void idsFollowDependencyOrder() {
+    final var reference = new InjectorReference();
+    final var graph = new HashMap<Key<?>, Node<?>>();
+    graph.put(INTEGER, new RefersTo<>(reference, LONG));
+    graph.put(LONG, new RefersTo<>(reference, STRING));
+    graph.put(STRING, new Value<>(reference, "value"));
+
+    final var keys = Injector.topologicallySortedKeys(graph);
+
+    assertEquals(List.of(STRING, LONG, INTEGER), keys, "Dependencies must come first");
+    assertEquals(
+        Map.of(STRING, 0, LONG, 1, INTEGER, 2),
+        Injector.assignIds(keys.toArray(new Key<?>[0])),
+        "Ids must follow dependency order");
+  }
+
+  @Test
+  void keysOnCycleStillGetIds() {
+    final var reference = new InjectorReference();
+    final var graph = new HashMap<Key<?>, Node<?>>();
+    graph.put(INTEGER, new RefersTo<>(reference, LONG));
+    graph.put(LONG, new RefersTo<>(reference, INTEGER));
+    graph.put(SHORT, new RefersTo<>(reference, INTEGER));
+    graph.put(STRING, new Value<>(reference, "value"));
+
+    final var keys = Injector.topologicallySortedKeys(graph);
+
+    assertEquals(
+        List.of(STRING, INTEGER, LONG, SHORT),
+        keys,
+        "Keys blocked by a cycle must be appended after ordered keys");
+    assertEquals(
+        Set.of(0, 1, 2, 3),
+        Set.copyOf(Injector.assignIds(keys.toArray(new Key<?>[0])).values()),
+        "Every key must get a distinct dense id");
+  }
+
+  @Test
+  void builtInjectorListsDependenciesFirst() {
+    final var rendered =
+        Injector.injector().add(Consumer.class, Dependency.class).build().toString();
+
+    assertTrue(
+        rendered.indexOf(Dependency.class.getName()) < rendered.indexOf(Consumer.class.getName()),
+        "Rendering must follow ids, even though the consumer sorts first by name");
+  }
+
+  static class Dependency {}
+
+  static class Consumer {
+    @Inject
+    Consumer(Dependency dependency) {}
+  }
+}
@@ -2,6 +2,7 @@ package io.github.suppierk.inject;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -79,7 +80,19 @@ class InjectorTest {
         .forClass(Injector.class)
         .withPrefabValues(
             Node.class, new Value<>(injectorReference, "A"), new Value<>(injectorReference, "B"))
-        .withIgnoredFields("currentInjector", "closed")
+        .withIgnoredFields(
+            "currentInjector",
+            "ids",
+            "keys",
+            "nodes",
+            "resolvedNodes",
+            "classNodes",
+            "closed",
+            "prunedKeys",
+            "validatedIds",
+            "timings",
+            "resolutionOrder",
+            "closeLock")
         .verify();
   }
 
@@ -129,6 +142,32 @@ class InjectorTest {
     assertEquals(value, retrievedValue, "Retrieved value must match to the expected value");
   }
 
+  @Test
+  void repeatedGetByClassReturnsCorrectValues() {
+    final var injector = Injector.injector().add(TestValue.class).add("testValue").build();
+
+    assertNotSame(
+        injector.get(TestValue.class),
+        injector.get(TestValue.class),
+        "Cached lookup must still create new instances");
+    assertEquals("testValue", injector.get(String.class), "First lookup must return the value");
+    assertEquals("testValue", injector.get(String.class), "Cached lookup must return the value");
+  }
+
+  @Test
+  void repeatedGetByClassOfNonExistingClassThrowsNoSuchElementException() {
+    final var injector = Injector.injector().build();
+
+    assertThrows(
+        NoSuchElementException.class,
+        () -> injector.get(String.class),
+        "Retrieving non existing class must throw NoSuchElementException");
+    assertThrows(
+        NoSuchElementException.class,
+        () -> injector.get(String.class),
+        "Missing class must not be cached");
+  }
+
   @Test
   void findOneThrowsIllegalArgumentIfAnyOfArgumentsIsNull() {
     final var injector = Injector.injector().build();
@@ -401,6 +440,12 @@ class InjectorTest {
       }
     }
 
+    class NewestValue extends NewValue {
+      NewestValue() {
+        super();
+      }
+    }
+
     @Test
     void doesNotAcceptNull() {
       final var builder = Injector.injector().build().copy();
@@ -506,6 +551,29 @@ class InjectorTest {
           "Replacing already replaced dependency must throw an exception");
     }
 
+    @Test
+    void replacementChainsResolveToFinalNode() {
+      final var injector =
+          Injector.injector()
+              .add(OldValue.class)
+              .build()
+              .copy()
+              .replace(OldValue.class, NewValue.class)
+              .build()
+              .copy()
+              .replace(NewValue.class, NewestValue.class)
+              .build();
+
+      assertInstanceOf(
+          NewestValue.class,
+          injector.get(OldValue.class),
+          "Replaced key must resolve to the final replacement");
+      assertInstanceOf(
+          NewestValue.class,
+          injector.get(NewValue.class),
+          "Intermediate key must resolve to the final replacement");
+    }
+
     @Test
     void doesNotAcceptOverrideToExistingKey() {
       final var builder =
@@ -2,7 +2,10 @@ package io.github.suppierk.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -171,6 +174,64 @@ class KeyTest {
     }
   }
 
+  @Nested
+  @AlphaQualifier
+  @BetaQualifier
+  class Canonical {
+    @Test
+    void factoryFailsForNullArguments() {
+      final var qualifier = Canonical.class.getAnnotation(AlphaQualifier.class);
+
+      assertThrows(
+          IllegalArgumentException.class, () -> Key.of(null), "Null class must throw an exception");
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> Key.of(null, qualifier),
+          "Null class must throw an exception");
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> Key.of(String.class, qualifier, null),
+          "Null annotation element must throw an exception");
+    }
+
+    @Test
+    void factoryFailsForNonQualifierAnnotation() {
+      final var annotation = NotQualifierAnnotation.class.getAnnotation(NotQualifier.class);
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> Key.of(String.class, annotation),
+          "Non Qualifier annotations must throw an exception");
+    }
+
+    @Test
+    void unqualifiedKeysMustBeSameInstance() {
+      final var key = Key.of(String.class);
+
+      assertSame(key, Key.of(String.class), "Unqualified keys must be canonical");
+      assertSame(key, Key.of(String.class, new Annotation[0]), "Empty qualifiers must be ignored");
+      assertEquals(new Key<>(String.class, null), key, "Canonical key must equal created key");
+    }
+
+    @Test
+    void qualifiedKeysMustNotBePooled() {
+      final var alphaQualifier = Canonical.class.getAnnotation(AlphaQualifier.class);
+      final var betaQualifier = Canonical.class.getAnnotation(BetaQualifier.class);
+
+      final var key = Key.of(String.class, alphaQualifier, betaQualifier);
+      final var reordered = Key.of(String.class, betaQualifier, alphaQualifier);
+
+      assertNotSame(key, reordered, "Qualified keys must not be pooled");
+      assertEquals(reordered, key, "Qualified keys must be equal regardless of annotation order");
+      assertNotEquals(
+          key, Key.of(String.class, alphaQualifier), "Keys with other qualifiers must differ");
+      assertEquals(
+          new Key<>(String.class, Set.of(alphaQualifier, betaQualifier)),
+          key,
+          "Canonical key must equal created key");
+    }
+  }
+
   @Retention(RetentionPolicy.RUNTIME)
   @interface NotQualifier {
     String customValue();
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Key;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class AsyncResolutionTest {
+  static final AtomicInteger CREATED = new AtomicInteger();
+  static CountDownLatch bothStarted = new CountDownLatch(2);
+
+  @Singleton
+  static class FirstClient {
+    final boolean concurrent;
+
+    FirstClient() throws InterruptedException {
+      CREATED.incrementAndGet();
+      bothStarted.countDown();
+      this.concurrent = bothStarted.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Singleton
+  static class SecondClient {
+    final boolean concurrent;
+
+    SecondClient() throws InterruptedException {
+      CREATED.incrementAndGet();
+      bothStarted.countDown();
+      this.concurrent = bothStarted.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  static class Handler {
+    final FirstClient first;
+    final SecondClient second;
+
+    @Inject
+    Handler(FirstClient first, SecondClient second) {
+      this.first = first;
+      this.second = second;
+    }
+  }
+
+  @Singleton
+  static class Failing {
+    Failing() {
+      throw new UnsupportedOperationException("Failing");
+    }
+  }
+
+  static class FailingHandler {
+    @Inject
+    FailingHandler(Failing failing) {}
+  }
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    CREATED.set(0);
+    bothStarted = new CountDownLatch(2);
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void independentSingletonsAreCreatedConcurrently() {
+    final var injector =
+        Injector.injector().add(Handler.class, FirstClient.class, SecondClient.class).build();
+
+    final var handler = injector.getAsync(Handler.class, executor).join();
+
+    assertTrue(handler.first.concurrent);
+    assertTrue(handler.second.concurrent);
+  }
+
+  @Test
+  void singletonsAreCreatedOnce() {
+    final var injector =
+        Injector.injector().add(Handler.class, FirstClient.class, SecondClient.class).build();
+
+    final var first = injector.getAsync(Key.of(Handler.class), executor);
+    final var second = injector.getAsync(Key.of(Handler.class), executor);
+
+    assertSame(first.join().first, second.join().first);
+    assertSame(first.join().second, injector.getAsync(SecondClient.class).join());
+    assertEquals(2, CREATED.get());
+  }
+
+  @Test
+  void failuresCompleteFutureExceptionally() {
+    final var injector = Injector.injector().add(FailingHandler.class, Failing.class).build();
+
+    final var future = injector.getAsync(FailingHandler.class, executor);
+
+    final var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  void argumentsAreValidated() {
+    final var injector = Injector.injector().add(FirstClient.class).build();
+
+    assertThrows(IllegalArgumentException.class, () -> injector.getAsync((Class<?>) null));
+    assertThrows(IllegalArgumentException.class, () -> injector.getAsync((Key<?>) null));
+    assertThrows(IllegalArgumentException.class, () -> injector.getAsync(FirstClient.class, null));
+    assertThrows(NoSuchElementException.class, () -> injector.getAsync(Handler.class));
+  }
+}
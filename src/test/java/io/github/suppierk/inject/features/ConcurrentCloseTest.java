@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class ConcurrentCloseTest {
+  static final Queue<String> CLOSED = new ConcurrentLinkedQueue<>();
+  static CountDownLatch release = new CountDownLatch(1);
+
+  @Singleton
+  static class Pool implements Closeable {
+    @Override
+    public void close() {
+      CLOSED.add("pool");
+    }
+  }
+
+  @Singleton
+  static class Client implements Closeable {
+    @Inject
+    Client(Pool pool) {}
+
+    @Override
+    public void close() {
+      CLOSED.add("client");
+    }
+  }
+
+  @Singleton
+  static class Broken implements Closeable {
+    @Override
+    public void close() throws IOException {
+      throw new IOException("Broken");
+    }
+  }
+
+  @Singleton
+  static class Stuck implements Closeable {
+    @Override
+    public void close() throws IOException {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  static class Slow implements Closeable {
+    @Override
+    public void close() {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      CLOSED.add("slow");
+    }
+  }
+
+  @Singleton
+  static class FirstSlow extends Slow {}
+
+  @Singleton
+  static class SecondSlow extends Slow {}
+
+  @Singleton
+  static class ThirdSlow extends Slow {}
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    CLOSED.clear();
+    release = new CountDownLatch(1);
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void consumersAreClosedBeforeTheirDependencies() {
+    final var injector = Injector.injector().add(Pool.class, Client.class).build();
+    injector.get(Client.class);
+
+    injector.closeConcurrently(executor, Duration.ofSeconds(5));
+
+    assertEquals(List.of("client", "pool"), List.copyOf(CLOSED));
+  }
+
+  @Test
+  void failuresAreCollected() {
+    final var injector =
+        Injector.injector().add(Pool.class, Client.class, Broken.class, Stuck.class).build();
+    injector.get(Client.class);
+    injector.get(Broken.class);
+    injector.get(Stuck.class);
+
+    final var exception =
+        assertThrows(
+            UncheckedIOException.class,
+            () -> injector.closeConcurrently(executor, Duration.ofMillis(100)));
+
+    final var suppressed = exception.getCause().getSuppressed();
+    assertEquals(2, suppressed.length);
+    assertTrue(
+        List.of(suppressed).stream().anyMatch(e -> e.getCause() instanceof TimeoutException));
+    assertTrue(CLOSED.containsAll(List.of("client", "pool")));
+  }
+
+  @Test
+  void queuedDependenciesAreNotTimedOut() {
+    final var injector =
+        Injector.injector()
+            .add(Pool.class, Client.class, FirstSlow.class, SecondSlow.class, ThirdSlow.class)
+            .build();
+    injector.get(Client.class);
+    injector.get(FirstSlow.class);
+    injector.get(SecondSlow.class);
+    injector.get(ThirdSlow.class);
+
+    final var singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      assertDoesNotThrow(
+          () -> injector.closeConcurrently(singleThreadExecutor, Duration.ofMillis(250)));
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+
+    assertEquals(5, CLOSED.size());
+    assertEquals("pool", List.copyOf(CLOSED).get(4), "Pool must be closed after every consumer");
+  }
+
+  @Test
+  void hangingDependencyDoesNotBlockQueuedOnes() {
+    final var injector = Injector.injector().add(Pool.class, Client.class, Stuck.class).build();
+    injector.get(Client.class);
+    injector.get(Stuck.class);
+
+    final var singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      final var exception =
+          assertTimeoutPreemptively(
+              Duration.ofSeconds(2),
+              () ->
+                  assertThrows(
+                      UncheckedIOException.class,
+                      () ->
+                          injector.closeConcurrently(
+                              singleThreadExecutor, Duration.ofMillis(200))));
+
+      assertTrue(
+          List.of(exception.getCause().getSuppressed()).stream()
+              .allMatch(e -> e.getCause() instanceof TimeoutException));
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectedDependenciesAreReported() {
+    final var injector = Injector.injector().add(Pool.class, Client.class).build();
+    injector.get(Client.class);
+
+    final var exception =
+        assertThrows(
+            UncheckedIOException.class,
+            () ->
+                injector.closeConcurrently(
+                    command -> {
+                      throw new RejectedExecutionException("Rejected");
+                    },
+                    Duration.ofSeconds(5)));
+
+    final var suppressed = exception.getCause().getSuppressed();
+    assertEquals(2, suppressed.length);
+    assertTrue(
+        List.of(suppressed).stream()
+            .allMatch(e -> e.getCause() instanceof RejectedExecutionException));
+  }
+
+  @Test
+  void closingIsIdempotent() {
+    final var injector = Injector.injector().add(Pool.class).build();
+    injector.get(Pool.class);
+
+    injector.closeConcurrently(executor, Duration.ofSeconds(5));
+    assertDoesNotThrow(() -> injector.closeConcurrently(executor, Duration.ofSeconds(5)));
+    assertDoesNotThrow(injector::close);
+
+    assertEquals(List.of("pool"), List.copyOf(CLOSED));
+  }
+
+  @Test
+  void argumentsAreValidated() {
+    final var injector = Injector.injector().build();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> injector.closeConcurrently(null, Duration.ofSeconds(5)));
+    assertThrows(IllegalArgumentException.class, () -> injector.closeConcurrently(executor, null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> injector.closeConcurrently(executor, Duration.ofSeconds(-1)));
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Key;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class EagerSingletonsTest {
+  static final AtomicInteger CREATED = new AtomicInteger();
+  static final AtomicBoolean CLOSED = new AtomicBoolean();
+  static final CountDownLatch BOTH_STARTED = new CountDownLatch(2);
+  static final CountDownLatch SLOW_FAILURE = new CountDownLatch(1);
+
+  @Singleton
+  static class Pool implements Closeable {
+    Pool() {
+      CREATED.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+      CLOSED.set(true);
+    }
+  }
+
+  @Singleton
+  static class Client {
+    final Pool pool;
+
+    @Inject
+    Client(Pool pool) {
+      CREATED.incrementAndGet();
+      this.pool = pool;
+    }
+  }
+
+  static class Handler {
+    Handler() {
+      CREATED.incrementAndGet();
+    }
+  }
+
+  @Singleton
+  static class SlowClient {
+    final boolean concurrent;
+
+    SlowClient() throws InterruptedException {
+      BOTH_STARTED.countDown();
+      this.concurrent = BOTH_STARTED.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Singleton
+  static class AnotherSlowClient {
+    final boolean concurrent;
+
+    AnotherSlowClient() throws InterruptedException {
+      BOTH_STARTED.countDown();
+      this.concurrent = BOTH_STARTED.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Singleton
+  static class Failing {
+    @Inject
+    Failing(Pool pool) {
+      throw new UnsupportedOperationException("Failing");
+    }
+  }
+
+  @Singleton
+  static class AFailingSlowly {
+    @Inject
+    AFailingSlowly(Pool pool) throws InterruptedException {
+      SLOW_FAILURE.await(5, TimeUnit.SECONDS);
+      throw new UnsupportedOperationException("Failing slowly");
+    }
+  }
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    CREATED.set(0);
+    CLOSED.set(false);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void singletonsAreCreatedDuringBuild() {
+    final var injector =
+        Injector.injector()
+            .eagerSingletons(executor)
+            .add(Pool.class, Client.class, Handler.class)
+            .build();
+
+    assertEquals(2, CREATED.get());
+    assertSame(injector.get(Pool.class), injector.get(Client.class).pool);
+    assertEquals(2, CREATED.get());
+  }
+
+  @Test
+  void independentSingletonsAreCreatedConcurrently() {
+    final var injector =
+        Injector.injector()
+            .eagerSingletons(executor)
+            .add(SlowClient.class, AnotherSlowClient.class)
+            .build();
+
+    assertTrue(injector.get(SlowClient.class).concurrent);
+    assertTrue(injector.get(AnotherSlowClient.class).concurrent);
+  }
+
+  @Test
+  void failureIsReportedWithKeyAndInjectorIsClosed() {
+    final var builder =
+        Injector.injector().eagerSingletons(executor).add(Pool.class, Failing.class);
+
+    final var exception = assertThrows(IllegalStateException.class, builder::build);
+
+    assertTrue(exception.getMessage().contains(Key.of(Failing.class).toString()));
+    assertTrue(CLOSED.get());
+  }
+
+  @Test
+  void firstFailureIsReportedWithoutWaitingForLevel() throws InterruptedException {
+    final var builder =
+        Injector.injector()
+            .eagerSingletons(executor)
+            .add(Pool.class, AFailingSlowly.class, Failing.class);
+
+    try {
+      final var exception =
+          assertTimeoutPreemptively(
+              Duration.ofSeconds(2),
+              () -> assertThrows(IllegalStateException.class, builder::build));
+
+      assertTrue(exception.getMessage().contains(Key.of(Failing.class).toString()));
+    } finally {
+      SLOW_FAILURE.countDown();
+    }
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    assertTrue(CLOSED.get());
+  }
+
+  @Test
+  void executorMustBeProvided() {
+    final var builder = Injector.injector();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.eagerSingletons(null));
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import io.github.suppierk.inject.graph.Instantiation;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class GeneratedInstantiationTest {
+  static class Dependency {}
+
+  @Singleton
+  static class SingletonDependency {}
+
+  static class Consumer {
+    private final Dependency dependency;
+    private final SingletonDependency singletonDependency;
+    private final int number;
+
+    @Inject
+    private Consumer(
+        Dependency dependency,
+        SingletonDependency singletonDependency,
+        @Named("number") int number) {
+      this.dependency = dependency;
+      this.singletonDependency = singletonDependency;
+      this.number = number;
+    }
+  }
+
+  static class DependencyFactory {
+    @Provides
+    @Named("number")
+    int number() {
+      return 42;
+    }
+
+    @Provides
+    @Named("static")
+    static String value(Dependency dependency) {
+      return "static";
+    }
+  }
+
+  static class StaticConsumer {
+    @Inject
+    @Named("static")
+    String value;
+  }
+
+  static class ThrowsFromConstructor {
+    ThrowsFromConstructor() {
+      throw new UnsupportedOperationException("Failure");
+    }
+  }
+
+  @Test
+  void generatedInstantiationMustInjectDependencies() {
+    final var injector =
+        Injector.injector()
+            .instantiation(Instantiation.GENERATED)
+            .add(Dependency.class, SingletonDependency.class, DependencyFactory.class)
+            .add(Consumer.class)
+            .build();
+
+    final var first = injector.get(Consumer.class);
+    final var second = injector.get(Consumer.class);
+
+    assertNotSame(first, second, "Consumer must be created for every request");
+    assertNotSame(first.dependency, second.dependency, "Dependency must be created every time");
+    assertSame(
+        first.singletonDependency,
+        second.singletonDependency,
+        "Singleton dependency must be created once");
+    assertEquals(42, first.number, "Primitive provider value must be injected");
+  }
+
+  @Test
+  void generatedInstantiationMustSupportStaticProviders() {
+    final var injector =
+        Injector.injector()
+            .instantiation(Instantiation.GENERATED)
+            .add(Dependency.class, DependencyFactory.class, StaticConsumer.class)
+            .build();
+
+    assertEquals(
+        "static", injector.get(StaticConsumer.class).value, "Static provider must be invoked");
+  }
+
+  @Test
+  void generatedInstantiationMustPreserveFailures() {
+    final var injector =
+        Injector.injector()
+            .instantiation(Instantiation.GENERATED)
+            .add(ThrowsFromConstructor.class)
+            .build();
+
+    final var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> injector.get(ThrowsFromConstructor.class),
+            "Constructor failure must be reported");
+    assertEquals(
+        UnsupportedOperationException.class,
+        exception.getCause().getCause().getClass(),
+        "Original exception must be preserved");
+  }
+
+  @Test
+  void nullInstantiationMustBeRejected() {
+    final var builder = Injector.injector();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.instantiation(null),
+        "Null instantiation must be rejected");
+  }
+}
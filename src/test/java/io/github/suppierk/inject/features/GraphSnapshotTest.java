@@ -0,0 +1,289 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings("unused")
+class GraphSnapshotTest {
+  static class Configuration {
+    final String name;
+
+    Configuration(String name) {
+      this.name = name;
+    }
+  }
+
+  @Singleton
+  static class Dependency {}
+
+  @Singleton
+  static class SpecialDependency extends Dependency {}
+
+  static class Consumer {
+    final Dependency dependency;
+
+    @Inject
+    @Named("greeting")
+    String greeting;
+
+    @Inject
+    Consumer(Dependency dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  static class GreetingFactory {
+    @Provides
+    @Named("greeting")
+    String greeting(Configuration configuration) {
+      return "Hello, " + configuration.name;
+    }
+  }
+
+  @TempDir Path directory;
+
+  @Test
+  void loadedInjectorMatchesSavedOne() {
+    final var path = directory.resolve("graph.bin");
+    final var configuration = new Configuration("snapshot");
+    final var saved =
+        Injector.injector()
+            .add(configuration)
+            .add(Consumer.class, Dependency.class, GreetingFactory.class)
+            .build();
+    saved.save(path);
+
+    final var loaded = Injector.injector().add(configuration).load(path);
+    final var consumer = loaded.get(Consumer.class);
+
+    assertEquals(saved, loaded);
+    assertEquals("Hello, snapshot", consumer.greeting);
+    assertSame(consumer.dependency, loaded.get(Consumer.class).dependency);
+    assertNotSame(saved.get(Dependency.class), loaded.get(Dependency.class));
+  }
+
+  @Test
+  void replacementsAreLoaded() {
+    final var path = directory.resolve("graph.bin");
+    Injector.injector()
+        .add(new Configuration("snapshot"))
+        .add(Consumer.class, Dependency.class, GreetingFactory.class)
+        .build()
+        .copy()
+        .replace(Dependency.class, SpecialDependency.class)
+        .build()
+        .save(path);
+
+    final var loaded = Injector.injector().add(new Configuration("snapshot")).load(path);
+
+    assertInstanceOf(SpecialDependency.class, loaded.get(Consumer.class).dependency);
+    assertSame(loaded.get(Dependency.class), loaded.get(SpecialDependency.class));
+  }
+
+  @Test
+  void missingObjectsAreReported() {
+    final var path = directory.resolve("graph.bin");
+    Injector.injector()
+        .add(new Configuration("snapshot"))
+        .add(Consumer.class, Dependency.class, GreetingFactory.class)
+        .build()
+        .save(path);
+
+    final var builder = Injector.injector();
+    assertThrows(IllegalArgumentException.class, () -> builder.load(path));
+  }
+
+  @Test
+  void staleSnapshotIsRejected() throws IOException {
+    final var path = directory.resolve("graph.bin");
+    Injector.injector().add(Dependency.class).build().save(path);
+
+    // Header and class table size are followed by the first class name and its fingerprint
+    final var bytes = Files.readAllBytes(path);
+    final var buffer = ByteBuffer.wrap(bytes);
+    final int fingerprintOffset = 16 + buffer.getInt(12);
+    buffer.putLong(fingerprintOffset, ~buffer.getLong(fingerprintOffset));
+    Files.write(path, bytes);
+
+    final var builder = Injector.injector();
+    assertThrows(IllegalArgumentException.class, () -> builder.load(path));
+  }
+
+  @Test
+  void malformedSnapshotIsRejected() throws IOException {
+    final var path = directory.resolve("graph.bin");
+    Files.write(path, new byte[] {1, 2, 3});
+
+    final var builder = Injector.injector();
+    assertThrows(IllegalArgumentException.class, () -> builder.load(path));
+  }
+
+  @Test
+  void corruptLengthsAreRejected() throws IOException {
+    final var path = directory.resolve("graph.bin");
+    Injector.injector().add(Dependency.class).build().save(path);
+    final var original = Files.readAllBytes(path);
+
+    // Class table size, followed by the length of the first class name
+    for (int offset : new int[] {8, 12}) {
+      for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+        final var bytes = original.clone();
+        ByteBuffer.wrap(bytes).putInt(offset, length);
+        Files.write(path, bytes);
+
+        final var builder = Injector.injector();
+        assertThrows(IllegalArgumentException.class, () -> builder.load(path));
+      }
+    }
+  }
+
+  @Test
+  void recompiledClassIsStale() throws IOException, URISyntaxException {
+    final var resource = Dependency.class.getResource("GraphSnapshotTest$Dependency.class");
+    assumeTrue(resource != null && "file".equals(resource.getProtocol()));
+
+    final var path = directory.resolve("graph.bin");
+    Injector.injector().add(Dependency.class).build().save(path);
+
+    final var classFile = Path.of(resource.toURI());
+    final var lastModified = Files.getLastModifiedTime(classFile);
+    try {
+      Files.setLastModifiedTime(
+          classFile, FileTime.fromMillis(lastModified.toMillis() + TimeUnit.HOURS.toMillis(1)));
+
+      final var builder = Injector.injector();
+      assertThrows(IllegalArgumentException.class, () -> builder.load(path));
+    } finally {
+      Files.setLastModifiedTime(classFile, lastModified);
+    }
+  }
+
+  @Test
+  void rebuiltJarIsStale() throws IOException, ClassNotFoundException {
+    final var jar = directory.resolve("dependency.jar");
+    final var path = directory.resolve("graph.bin");
+    final var lastModified = FileTime.fromMillis(TimeUnit.DAYS.toMillis(1));
+
+    writeJar(jar, "first", lastModified);
+    try (var classLoader = jarClassLoader(jar)) {
+      Injector.injector().add(classLoader.loadClass(Dependency.class.getName())).build().save(path);
+      assertDoesNotThrow(() -> loadWith(classLoader, path));
+    }
+
+    // Rebuilt artifact keeps the size and the normalized modification time
+    final var size = Files.size(jar);
+    writeJar(jar, "other", lastModified);
+    assertEquals(size, Files.size(jar));
+
+    Injector.clearMetadataCache();
+    try (var classLoader = jarClassLoader(jar)) {
+      assertThrows(IllegalArgumentException.class, () -> loadWith(classLoader, path));
+    }
+  }
+
+  @Test
+  void adjustersCannotBeSaved() {
+    final var path = directory.resolve("graph.bin");
+    final var injector =
+        Injector.injector().add(Dependency.class, (ignored, dependency) -> {}).build();
+
+    assertThrows(IllegalStateException.class, () -> injector.save(path));
+  }
+
+  @Test
+  void nullPathsAreRejected() {
+    final var injector = Injector.injector().build();
+    final var builder = Injector.injector();
+
+    assertThrows(IllegalArgumentException.class, () -> injector.save(null));
+    assertThrows(IllegalArgumentException.class, () -> builder.load(null));
+  }
+
+  private static void writeJar(Path jar, String marker, FileTime lastModified) throws IOException {
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (Class<?> clazz : List.of(GraphSnapshotTest.class, Dependency.class)) {
+        final var name = clazz.getName().replace('.', '/') + ".class";
+        final var entry = new JarEntry(name);
+        entry.setLastModifiedTime(lastModified);
+        out.putNextEntry(entry);
+        try (var in = clazz.getClassLoader().getResourceAsStream(name)) {
+          assertNotNull(in, name);
+          in.transferTo(out);
+        }
+      }
+
+      final var entry = new JarEntry("marker.txt");
+      entry.setLastModifiedTime(lastModified);
+      out.putNextEntry(entry);
+      out.write(marker.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Files.setLastModifiedTime(jar, lastModified);
+  }
+
+  private static URLClassLoader jarClassLoader(Path jar) throws IOException {
+    return new URLClassLoader(
+        new URL[] {jar.toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+  }
+
+  private static Injector loadWith(ClassLoader classLoader, Path path) {
+    final var thread = Thread.currentThread();
+    final var contextClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      return Injector.injector().load(path);
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import io.github.suppierk.inject.Validation;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class LazyValidationTest {
+  @Singleton
+  static class Dependency {}
+
+  static class Entry {
+    final Dependency dependency;
+
+    @Inject Provider<String> value;
+
+    @Inject
+    Entry(Dependency dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  static class ValueFactory {
+    @Provides
+    String value(Dependency dependency) {
+      return "value";
+    }
+  }
+
+  static class Missing {}
+
+  static class Broken {
+    @Inject
+    Broken(Missing missing) {}
+  }
+
+  static class Transient {}
+
+  @Singleton
+  static class Captive {
+    @Inject
+    Captive(Transient dependency) {}
+  }
+
+  @Test
+  void usedNodesAreResolvedDespiteInvalidOnes() {
+    final var injector =
+        Injector.injector()
+            .validation(Validation.LAZY)
+            .add(Entry.class, Dependency.class, ValueFactory.class, Broken.class)
+            .build();
+
+    final var entry = injector.get(Entry.class);
+
+    assertNotNull(entry);
+    assertSame(entry.dependency, injector.get(Dependency.class));
+    assertEquals("value", entry.value.get());
+  }
+
+  @Test
+  void invalidNodesAreReportedOnResolution() {
+    final var injector =
+        Injector.injector()
+            .validation(Validation.LAZY)
+            .add(Broken.class, Captive.class, Transient.class)
+            .build();
+
+    assertThrows(IllegalStateException.class, () -> injector.get(Broken.class));
+    assertThrows(IllegalStateException.class, () -> injector.get(Broken.class));
+    assertThrows(IllegalStateException.class, () -> injector.get(Captive.class));
+    assertNotNull(injector.get(Transient.class));
+  }
+
+  @Test
+  void validateAllReportsInvalidNodes() {
+    final var valid =
+        Injector.injector()
+            .validation(Validation.LAZY)
+            .add(Entry.class, Dependency.class, ValueFactory.class)
+            .build();
+    final var invalid =
+        Injector.injector().validation(Validation.LAZY).add(Dependency.class, Broken.class).build();
+
+    assertSame(valid, valid.validateAll());
+    assertThrows(IllegalStateException.class, invalid::validateAll);
+  }
+
+  @Test
+  void eagerValidationIsUsedByDefault() {
+    final var builder = Injector.injector().add(Broken.class);
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+    assertThrows(IllegalArgumentException.class, () -> builder.validation(null));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class MetadataCacheTest {
+  static class Dependency {}
+
+  static class Consumer {
+    final Dependency dependency;
+
+    @Inject String value;
+
+    @Inject
+    Consumer(Dependency dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  static class ValueFactory {
+    @Provides
+    String value(Dependency dependency) {
+      return "value";
+    }
+  }
+
+  abstract static class AbstractClass {}
+
+  static class AmbiguousConstructors {
+    @Inject
+    AmbiguousConstructors(Dependency dependency) {}
+
+    @Inject
+    AmbiguousConstructors(String value) {}
+  }
+
+  @Test
+  void warmedUpClassesAreInjectedAsUsual() {
+    Injector.warmUp(Consumer.class, Dependency.class, ValueFactory.class);
+
+    final var injector =
+        Injector.injector().add(Consumer.class, Dependency.class, ValueFactory.class).build();
+
+    assertEquals("value", injector.get(Consumer.class).value);
+  }
+
+  @Test
+  void metadataIsSharedAcrossBuilders() {
+    final var first = Injector.injector().add(Consumer.class, Dependency.class, ValueFactory.class);
+    final var second =
+        Injector.injector().add(Consumer.class, Dependency.class, ValueFactory.class);
+
+    assertEquals("value", first.build().get(Consumer.class).value);
+    assertEquals("value", second.build().get(Consumer.class).value);
+  }
+
+  @Test
+  void clearedCacheIsRepopulatedOnDemand() {
+    Injector.warmUp(Consumer.class);
+    Injector.clearMetadataCache();
+
+    final var injector =
+        Injector.injector().add(Consumer.class, Dependency.class, ValueFactory.class).build();
+
+    assertEquals("value", injector.get(Consumer.class).value);
+  }
+
+  @Test
+  void warmUpValidatesClassesLikeBuilder() {
+    assertThrows(IllegalArgumentException.class, () -> Injector.warmUp(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> Injector.warmUp(Dependency.class, (Class<?>) null));
+    assertThrows(IllegalArgumentException.class, () -> Injector.warmUp(AbstractClass.class));
+    assertThrows(
+        IllegalArgumentException.class, () -> Injector.warmUp(AmbiguousConstructors.class));
+  }
+
+  @Test
+  void failuresAreNotCached() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Injector.warmUp(AmbiguousConstructors.class));
+
+    final var builder = Injector.injector();
+    assertThrows(IllegalArgumentException.class, () -> builder.add(AmbiguousConstructors.class));
+    assertDoesNotThrow(() -> builder.add(Dependency.class));
+  }
+}
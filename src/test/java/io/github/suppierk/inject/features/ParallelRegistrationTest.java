@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Provides;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class ParallelRegistrationTest {
+  static class Dependency {}
+
+  static class Consumer {
+    final Dependency dependency;
+
+    @Inject
+    Consumer(Dependency dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  static class ValueFactory {
+    @Provides
+    String value(Consumer consumer) {
+      return "value";
+    }
+  }
+
+  static class DuplicateValueFactory {
+    @Provides
+    String value() {
+      return "duplicate";
+    }
+  }
+
+  static class AmbiguousConstructors {
+    @Inject
+    AmbiguousConstructors(Dependency dependency) {}
+
+    @Inject
+    AmbiguousConstructors(String value) {}
+  }
+
+  @Test
+  void classesAreRegisteredRegardlessOfOrder() {
+    final var injector =
+        Injector.injector()
+            .addAll(List.of(ValueFactory.class, Consumer.class, Dependency.class))
+            .build();
+
+    assertEquals("value", injector.get(String.class));
+  }
+
+  @Test
+  void classesAreScannedOnProvidedExecutor() {
+    final var scans = new AtomicInteger();
+    final Executor executor =
+        command -> {
+          scans.incrementAndGet();
+          command.run();
+        };
+
+    final var injector =
+        Injector.injector()
+            .addAll(List.of(ValueFactory.class, Consumer.class, Dependency.class), executor)
+            .build();
+
+    assertEquals(3, scans.get());
+    assertEquals("value", injector.get(String.class));
+  }
+
+  @Test
+  void queuedScansAreRunByCallingThread() {
+    final Executor neverRunning = command -> {};
+
+    final var injector =
+        Injector.injector()
+            .addAll(List.of(ValueFactory.class, Consumer.class, Dependency.class), neverRunning)
+            .build();
+
+    assertEquals("value", injector.get(String.class));
+  }
+
+  @Test
+  void workerOfSaturatedExecutorDoesNotDeadlock() throws Exception {
+    final var executor = Executors.newSingleThreadExecutor();
+    try {
+      final var injector =
+          executor
+              .submit(
+                  () ->
+                      Injector.injector()
+                          .addAll(
+                              List.of(ValueFactory.class, Consumer.class, Dependency.class),
+                              executor)
+                          .build())
+              .get(5, TimeUnit.SECONDS);
+
+      assertEquals("value", injector.get(String.class));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void duplicatesAreReportedAndBatchIsRolledBack() {
+    final var builder = Injector.injector();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            builder.addAll(
+                List.of(Dependency.class, ValueFactory.class, DuplicateValueFactory.class)));
+
+    final var injector = assertDoesNotThrow(builder::build);
+    assertThrows(NoSuchElementException.class, () -> injector.get(Dependency.class));
+  }
+
+  @Test
+  void invalidClassesAreReportedAsInSerialRegistration() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Injector.injector().addAll(List.of(Dependency.class, AmbiguousConstructors.class)));
+  }
+
+  @Test
+  void nullArgumentsAreRejected() {
+    final var builder = Injector.injector();
+    final List<Class<?>> classes = new ArrayList<>(Arrays.asList(Dependency.class, null));
+
+    assertThrows(IllegalArgumentException.class, () -> builder.addAll(null));
+    assertThrows(IllegalArgumentException.class, () -> builder.addAll(List.of(), null));
+    assertThrows(IllegalArgumentException.class, () -> builder.addAll(classes));
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Key;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class RootPruningTest {
+  static class Dependency {}
+
+  static class LazyDependency {}
+
+  static class Entry {
+    final Dependency dependency;
+
+    @Inject Provider<LazyDependency> lazyDependency;
+
+    @Inject
+    Entry(Dependency dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  static class Unused {}
+
+  static class Missing {}
+
+  static class Broken {
+    @Inject
+    Broken(Missing missing) {}
+  }
+
+  @Singleton
+  static class Captive {
+    @Inject
+    Captive(Dependency dependency) {}
+  }
+
+  @Test
+  void unreachableKeysArePruned() {
+    final var injector =
+        Injector.injector()
+            .roots(Key.of(Entry.class))
+            .add(Entry.class, Dependency.class, LazyDependency.class, Unused.class)
+            .build();
+
+    assertNotNull(injector.get(Entry.class).lazyDependency.get());
+    assertEquals(List.of(Key.of(Unused.class)), injector.prunedKeys());
+    assertThrows(NoSuchElementException.class, () -> injector.get(Unused.class));
+  }
+
+  @Test
+  void prunedKeysAreNotVerified() {
+    final var injector =
+        Injector.injector()
+            .add(Entry.class, Dependency.class, LazyDependency.class, Broken.class, Captive.class)
+            .roots(Key.of(Entry.class))
+            .build();
+
+    assertEquals(List.of(Key.of(Broken.class), Key.of(Captive.class)), injector.prunedKeys());
+  }
+
+  @Test
+  void retainedKeysAreVerified() {
+    final var builder =
+        Injector.injector()
+            .add(Entry.class, Dependency.class, LazyDependency.class, Broken.class)
+            .roots(Key.of(Entry.class), Key.of(Broken.class));
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  void rootsMustBeRegistered() {
+    final var builder = Injector.injector().add(Dependency.class).roots(Key.of(Unused.class));
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+    assertThrows(IllegalArgumentException.class, () -> builder.roots(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.roots(Key.of(Unused.class), (Key<?>) null));
+  }
+
+  @Test
+  void everythingIsRetainedWithoutRoots() {
+    final var injector = Injector.injector().add(Dependency.class, Unused.class).build();
+
+    assertTrue(injector.prunedKeys().isEmpty());
+    assertNotNull(injector.get(Unused.class));
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import io.github.suppierk.inject.Key;
+import io.github.suppierk.inject.StartupProfile;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class StartupProfileTest {
+  static final Duration SLOW = Duration.ofMillis(50);
+
+  @Singleton
+  static class Slow {
+    Slow() throws InterruptedException {
+      Thread.sleep(SLOW.toMillis());
+    }
+  }
+
+  @Singleton
+  static class Middle {
+    @Inject
+    Middle(Slow slow) {}
+  }
+
+  @Singleton
+  static class Root {
+    @Inject
+    Root(Middle middle, Fast fast) {}
+  }
+
+  @Singleton
+  static class Fast {}
+
+  static class Handler {}
+
+  // Sorted after Slow, so that the provider dependency has a lower id
+  @Singleton
+  static class Watcher {
+    @Inject
+    Watcher(Provider<Slow> slow) {}
+  }
+
+  @Test
+  void selfTimeExcludesDependencies() {
+    final var injector =
+        Injector.injector()
+            .profiling(true)
+            .add(Slow.class, Middle.class, Root.class, Fast.class)
+            .build();
+
+    injector.get(Root.class);
+
+    final var slow = timing(injector.profile(), Slow.class);
+    final var root = timing(injector.profile(), Root.class);
+    assertTrue(slow.getSelfTime().compareTo(SLOW) >= 0);
+    assertTrue(root.getWallTime().compareTo(SLOW) >= 0);
+    assertTrue(root.getSelfTime().compareTo(SLOW) < 0);
+    assertEquals(Thread.currentThread().getName(), root.getThread());
+  }
+
+  @Test
+  void criticalPathFollowsSlowestDependencies() {
+    final var injector =
+        Injector.injector()
+            .profiling(true)
+            .add(Slow.class, Middle.class, Root.class, Fast.class)
+            .build();
+
+    injector.get(Root.class);
+
+    final var profile = injector.profile();
+    assertEquals(4, profile.getTimings().size());
+    assertEquals(
+        List.of(Key.of(Slow.class), Key.of(Middle.class), Key.of(Root.class)),
+        profile.getCriticalPath().stream()
+            .map(StartupProfile.Timing::getKey)
+            .collect(Collectors.toList()));
+    assertTrue(profile.getCriticalPathTime().compareTo(SLOW) >= 0);
+  }
+
+  @Test
+  void criticalPathSkipsProviderDependencies() {
+    final var injector = Injector.injector().profiling(true).add(Slow.class, Watcher.class).build();
+
+    injector.get(Watcher.class);
+    injector.get(Slow.class);
+
+    assertEquals(
+        List.of(Key.of(Slow.class)),
+        injector.profile().getCriticalPath().stream()
+            .map(StartupProfile.Timing::getKey)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void onlyFirstCreationIsRecorded() {
+    final var injector = Injector.injector().profiling(true).add(Handler.class).build();
+
+    assertTrue(injector.profile().getTimings().isEmpty());
+
+    injector.get(Handler.class);
+    final var first = timing(injector.profile(), Handler.class);
+    injector.get(Handler.class);
+
+    assertEquals(1, injector.profile().getTimings().size());
+    assertEquals(first, timing(injector.profile(), Handler.class));
+  }
+
+  @Test
+  void profileIsRenderedAsYaml() {
+    final var injector =
+        Injector.injector()
+            .profiling(true)
+            .add(Slow.class, Middle.class, Root.class, Fast.class)
+            .build();
+
+    injector.get(Root.class);
+
+    final var yaml = injector.profile().toString();
+    assertTrue(yaml.startsWith("profile:"));
+    assertTrue(yaml.contains("criticalPath:"));
+    assertTrue(yaml.contains(Slow.class.getName()));
+    assertTrue(yaml.contains("selfTime:"));
+  }
+
+  @Test
+  void threadNamesAreQuoted() throws InterruptedException {
+    final var injector = Injector.injector().profiling(true).add(Fast.class).build();
+
+    final var thread = new Thread(() -> injector.get(Fast.class), "it's a thread");
+    thread.start();
+    thread.join();
+
+    assertTrue(injector.profile().toString().contains("thread: 'it''s a thread'"));
+  }
+
+  @Test
+  void profilingDoesNotChangeGraph() {
+    final var injector =
+        Injector.injector()
+            .profiling(true)
+            .add(Slow.class, Middle.class, Root.class, Fast.class)
+            .build();
+
+    assertEquals(
+        Injector.injector().add(Slow.class, Middle.class, Root.class, Fast.class).build(),
+        injector);
+    assertEquals(injector, injector.copy().build());
+  }
+
+  @Test
+  void profilingMustBeEnabled() {
+    final var injector = Injector.injector().add(Fast.class).build();
+
+    assertThrows(IllegalStateException.class, injector::profile);
+  }
+
+  private static StartupProfile.Timing timing(StartupProfile profile, Class<?> clazz) {
+    return profile.getTimings().stream()
+        .filter(timing -> timing.getKey().equals(Key.of(clazz)))
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright 2026 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR
+ * OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.github.suppierk.inject.features;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.suppierk.inject.Injector;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings("unused")
+class WarmUpProfileTest {
+  static final List<Class<?>> CREATED = new CopyOnWriteArrayList<>();
+  static final List<Gate> GATES = new CopyOnWriteArrayList<>();
+  static final Executor DIRECT = Runnable::run;
+
+  @Singleton
+  static class Pool {
+    Pool() {
+      CREATED.add(Pool.class);
+    }
+  }
+
+  @Singleton
+  static class Client {
+    @Inject
+    Client(Pool pool) {
+      CREATED.add(Client.class);
+    }
+  }
+
+  @Singleton
+  static class Cache {
+    Cache() {
+      CREATED.add(Cache.class);
+    }
+  }
+
+  static class CacheUser {
+    @Inject
+    CacheUser(Cache cache) {}
+  }
+
+  @Singleton
+  static class Unused {
+    Unused() {
+      CREATED.add(Unused.class);
+    }
+  }
+
+  static volatile CountDownLatch entered = new CountDownLatch(0);
+  static volatile CountDownLatch released = new CountDownLatch(0);
+
+  @Singleton
+  static class Gate implements Closeable {
+    volatile boolean closed;
+
+    Gate() throws InterruptedException {
+      GATES.add(this);
+      entered.countDown();
+      released.await();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  @TempDir Path directory;
+
+  @BeforeEach
+  void setUp() {
+    CREATED.clear();
+    GATES.clear();
+    entered = new CountDownLatch(0);
+    released = new CountDownLatch(0);
+  }
+
+  @Test
+  void requestedSingletonsAreCreatedInRecordedOrder() {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).build();
+    assertTrue(CREATED.isEmpty());
+    recording.get(Cache.class);
+    recording.get(Client.class);
+    recording.saveWarmUpProfile(path);
+
+    CREATED.clear();
+    final var replaying = builder(path).build();
+
+    assertEquals(List.of(Cache.class, Pool.class, Client.class), CREATED);
+    replaying.get(Client.class);
+    assertEquals(3, CREATED.size());
+  }
+
+  @Test
+  void singletonsCreatedAheadOfUseAreNotRecorded() {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).build();
+    recording.get(Client.class);
+    recording.saveWarmUpProfile(path);
+
+    builder(path).build().saveWarmUpProfile(path);
+
+    CREATED.clear();
+    builder(path).build();
+
+    assertTrue(CREATED.isEmpty());
+  }
+
+  @Test
+  void singletonsCapturedByFreezeAreRecorded() {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).add(CacheUser.class).build();
+    recording.get(Cache.class);
+    recording.saveWarmUpProfile(path);
+
+    final var replaying = builder(path).add(CacheUser.class).build().freeze();
+    replaying.get(CacheUser.class);
+    replaying.saveWarmUpProfile(path);
+
+    CREATED.clear();
+    builder(path).add(CacheUser.class).build();
+
+    assertEquals(List.of(Cache.class), CREATED);
+  }
+
+  @Test
+  void rejectedWarmUpIsSkipped() {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).build();
+    recording.get(Cache.class);
+    recording.saveWarmUpProfile(path);
+
+    CREATED.clear();
+    final var builder =
+        Injector.injector()
+            .warmUpProfile(
+                path,
+                command -> {
+                  throw new RejectedExecutionException("Rejected");
+                })
+            .add(Pool.class, Client.class, Cache.class);
+
+    final var injector = assertDoesNotThrow(builder::build);
+
+    assertTrue(CREATED.isEmpty());
+    injector.get(Cache.class);
+    assertEquals(List.of(Cache.class), CREATED);
+  }
+
+  @Test
+  void unregisteredKeysAreSkipped() {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).add(Unused.class).build();
+    recording.get(Unused.class);
+    recording.get(Cache.class);
+    recording.saveWarmUpProfile(path);
+
+    CREATED.clear();
+    builder(path).build();
+
+    assertEquals(List.of(Cache.class), CREATED);
+  }
+
+  @Test
+  void malformedProfileIsSkipped() throws IOException {
+    final var path = directory.resolve("warm-up.bin");
+    Files.write(path, new byte[] {1, 2, 3});
+
+    final var injector = assertDoesNotThrow(builder(path)::build);
+
+    assertTrue(CREATED.isEmpty());
+    injector.saveWarmUpProfile(path);
+  }
+
+  @Test
+  void oversizedLengthIsSkipped() throws IOException {
+    final var path = directory.resolve("warm-up.bin");
+    Files.write(
+        path,
+        new byte[] {'I', 'N', 'J', 'W', 0, 0, 0, 1, 0, 0, 0, 1, 0x7F, -1, -1, -1, 'K', 'e', 'y'});
+
+    assertDoesNotThrow(builder(path)::build);
+    assertTrue(CREATED.isEmpty());
+  }
+
+  @Test
+  void profileIsReplacedWithoutLeftovers() throws IOException {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = builder(path).build();
+    recording.get(Cache.class);
+    recording.saveWarmUpProfile(path);
+    recording.saveWarmUpProfile(path);
+
+    try (var files = Files.list(directory)) {
+      assertEquals(List.of(path), files.collect(Collectors.toList()));
+    }
+
+    CREATED.clear();
+    builder(path).build();
+
+    assertEquals(List.of(Cache.class), CREATED);
+  }
+
+  @Test
+  void singletonInFlightIsClosed() throws Exception {
+    final var path = directory.resolve("warm-up.bin");
+
+    final var recording = Injector.injector().warmUpProfile(path, DIRECT).add(Gate.class).build();
+    recording.get(Gate.class);
+    recording.saveWarmUpProfile(path);
+
+    entered = new CountDownLatch(1);
+    released = new CountDownLatch(1);
+    final var executor = Executors.newSingleThreadExecutor();
+    try {
+      final var replaying =
+          Injector.injector().warmUpProfile(path, executor).add(Gate.class).build();
+      assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+      final var closing = CompletableFuture.runAsync(replaying::close);
+      Thread.sleep(100);
+      released.countDown();
+      closing.get(5, TimeUnit.SECONDS);
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+      assertEquals(2, GATES.size());
+      assertTrue(GATES.get(1).closed);
+    } finally {
+      released.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void recordingMustBeEnabled() {
+    final var injector = Injector.injector().add(Cache.class).build();
+    final var path = directory.resolve("warm-up.bin");
+
+    assertThrows(IllegalStateException.class, () -> injector.saveWarmUpProfile(path));
+  }
+
+  @Test
+  void argumentsMustBeProvided() {
+    final var builder = Injector.injector();
+    final var path = directory.resolve("warm-up.bin");
+
+    assertThrows(IllegalArgumentException.class, () -> builder.warmUpProfile(null, DIRECT));
+    assertThrows(IllegalArgumentException.class, () -> builder.warmUpProfile(path, null));
+  }
+
+  private static Injector.Builder builder(Path path) {
+    return Injector.injector()
+        .warmUpProfile(path, DIRECT)
+        .add(Pool.class, Client.class, Cache.class);
+  }
+}
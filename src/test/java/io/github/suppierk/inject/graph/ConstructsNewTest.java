@@ -12,6 +12,8 @@ import io.github.suppierk.inject.InjectorReference;
 import io.github.suppierk.inject.Key;
 import io.github.suppierk.inject.ParameterInformation;
 import io.github.suppierk.utils.ConsoleConstants;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.List;
@@ -40,6 +42,12 @@ class ConstructsNewTest {
     }
   }
 
+  static class Fields {
+    private String first;
+    private long second;
+    private final String third = "Green";
+  }
+
   @Test
   void objectMethodsMustWorkAsExpected() {
     final var redInjector = Injector.injector().add("Red").build();
@@ -52,8 +60,20 @@ class ConstructsNewTest {
     EqualsVerifier.simple()
         .forClass(ConstructsNew.class)
         .withPrefabValues(Injector.class, redInjector, blueInjector)
+        .withPrefabValues(
+            MethodHandle[].class,
+            new MethodHandle[] {MethodHandles.constant(String.class, "Red")},
+            new MethodHandle[] {MethodHandles.constant(String.class, "Blue")})
         .withPrefabValues(Parameter.class, redParameter, blueParameter)
-        .withIgnoredFields("injectorReference", "constructor")
+        .withIgnoredFields(
+            "injectorReference",
+            "constructor",
+            "instantiator",
+            "parameterNodes",
+            "fieldNodes",
+            "fieldSetters",
+            "parameterConstants",
+            "fieldConstants")
         .verify();
   }
 
@@ -95,6 +115,62 @@ class ConstructsNewTest {
     assertNotSame(original, copy, "Copy must not be the same as original");
   }
 
+  @Test
+  void linkedNodeMustResolveParentsOnce() {
+    final var injector = Injector.injector().add("Red", 1L).build();
+    final var injectorReference = new InjectorReference();
+    injectorReference.set(injector);
+
+    final var constructor = Value.constructor();
+    final var parameters = constructor.getParameters();
+
+    final var node =
+        new ConstructsNew<>(
+            injectorReference,
+            constructor,
+            List.of(
+                new ParameterInformation(parameters[0], new Key<>(String.class, null), null),
+                new ParameterInformation(parameters[1], new Key<>(Long.class, null), null)),
+            List.of());
+
+    final var unlinked = node.get();
+    node.link();
+    final var linked = node.get();
+
+    assertEquals("Red", linked.first, "Linked node must resolve constructor arguments");
+    assertEquals(1L, (long) linked.second, "Linked node must resolve constructor arguments");
+    assertEquals(unlinked.first, linked.first, "Linking must not change resolved values");
+    assertNotSame(unlinked, linked, "Linked node must still create new instances");
+  }
+
+  @Test
+  void fieldsMustBeInjectedThroughPreparedSetters() throws Exception {
+    final var injector = Injector.injector().add("Red", 1L).build();
+    final var injectorReference = new InjectorReference();
+    injectorReference.set(injector);
+
+    final var first = Fields.class.getDeclaredField("first");
+    final var second = Fields.class.getDeclaredField("second");
+
+    final var node =
+        new ConstructsNew<>(
+            injectorReference,
+            Fields.class.getDeclaredConstructor(),
+            List.of(),
+            List.of(
+                new FieldInformation(first, new Key<>(String.class, null), null),
+                new FieldInformation(second, new Key<>(Long.class, null), null)));
+    node.link();
+
+    final var instance = node.get();
+    final var anotherInstance = node.get();
+
+    assertEquals("Red", instance.first, "Private field must be injected");
+    assertEquals(1L, instance.second, "Primitive field must be injected with unboxed value");
+    assertEquals("Red", anotherInstance.first, "Setters must be reused for new instances");
+    assertNotSame(instance, anotherInstance, "Node must still create new instances");
+  }
+
   @Test
   void toStringMustBeNonNull() {
     final var injectorReference = new InjectorReference();
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.github.suppierk.inject.FieldInformation;
@@ -12,6 +14,8 @@ import io.github.suppierk.inject.InjectorReference;
 import io.github.suppierk.inject.Key;
 import io.github.suppierk.inject.ParameterInformation;
 import io.github.suppierk.utils.ConsoleConstants;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.List;
@@ -52,8 +56,22 @@ class ConstructsSingletonTest {
     EqualsVerifier.simple()
         .forClass(ConstructsSingleton.class)
         .withPrefabValues(Injector.class, redInjector, blueInjector)
+        .withPrefabValues(
+            MethodHandle[].class,
+            new MethodHandle[] {MethodHandles.constant(String.class, "Red")},
+            new MethodHandle[] {MethodHandles.constant(String.class, "Blue")})
         .withPrefabValues(Parameter.class, redParameter, blueParameter)
-        .withIgnoredFields("injectorReference", "constructor", "memoized", "onCloseConsumer")
+        .withIgnoredFields(
+            "injectorReference",
+            "constructor",
+            "instantiator",
+            "parameterNodes",
+            "fieldNodes",
+            "fieldSetters",
+            "parameterConstants",
+            "fieldConstants",
+            "memoized",
+            "onCloseConsumer")
         .verify();
   }
 
@@ -96,6 +114,28 @@ class ConstructsSingletonTest {
     assertNotSame(original, copy, "Copy must not be the same as original");
   }
 
+  @Test
+  void constantMustBeKnownOnlyAfterCreation() {
+    final var injector = Injector.injector().add("Red", 1L).build();
+    final var injectorReference = new InjectorReference();
+    injectorReference.set(injector);
+
+    final var constructor = Value.constructor();
+    final var parameters = constructor.getParameters();
+
+    final var node =
+        new ConstructsSingleton<>(
+            injectorReference,
+            constructor,
+            List.of(
+                new ParameterInformation(parameters[0], new Key<>(String.class, null), null),
+                new ParameterInformation(parameters[1], new Key<>(Long.class, null), null)),
+            List.of());
+
+    assertNull(node.constant(), "Constant must not be known before creation");
+    assertSame(node.get(), node.constant(), "Constant must be the created instance");
+  }
+
   @Test
   void toStringMustBeNonNull() {
     final var injectorReference = new InjectorReference();
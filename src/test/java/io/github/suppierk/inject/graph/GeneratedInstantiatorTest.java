@@ -0,0 +1,108 @@
+package io.github.suppierk.inject.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class GeneratedInstantiatorTest {
+  static class Value {
+    final String first;
+    final int second;
+
+    private Value(String first, int second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    private Value(int a, int b, int c, int d, int e, int f, int g, int h, int i) {
+      this("Wide", a + b + c + d + e + f + g + h + i);
+    }
+
+    private long concat(String suffix, long count) {
+      return first.length() + suffix.length() + count;
+    }
+
+    private static String join(String prefix, String suffix) {
+      return prefix + suffix;
+    }
+
+    private static String fail() {
+      throw new IllegalStateException("Failure");
+    }
+  }
+
+  @Test
+  void constructorMustBeInvokedThroughGeneratedClass() throws Exception {
+    final var instantiator =
+        GeneratedInstantiator.of(Value.class.getDeclaredConstructor(String.class, int.class));
+    assertInstanceOf(
+        GeneratedInstantiator.class, instantiator, "Class on the classpath must be generated");
+
+    final var value = (Value) instantiator.instantiate(null, new Object[] {"Red", 1});
+
+    assertEquals("Red", value.first, "Constructor must receive reference arguments");
+    assertEquals(1, value.second, "Constructor must receive unboxed primitive arguments");
+  }
+
+  @Test
+  void instanceMethodMustBeInvokedOnReceiver() throws Exception {
+    final var instantiator =
+        GeneratedInstantiator.of(Value.class.getDeclaredMethod("concat", String.class, long.class));
+    assertInstanceOf(
+        GeneratedInstantiator.class, instantiator, "Class on the classpath must be generated");
+
+    final var result = instantiator.instantiate(new Value("Red", 1), new Object[] {"Blue", 2L});
+
+    assertEquals(9L, result, "Method must be invoked on the receiver with boxed result");
+  }
+
+  @Test
+  void staticMethodMustIgnoreReceiver() throws Exception {
+    final var instantiator =
+        GeneratedInstantiator.of(Value.class.getDeclaredMethod("join", String.class, String.class));
+
+    assertEquals(
+        "RedBlue",
+        instantiator.instantiate(new Value("Green", 1), new Object[] {"Red", "Blue"}),
+        "Static method must ignore the receiver");
+  }
+
+  @Test
+  void tooManyArgumentsMustFallBackToMethodHandles() throws Exception {
+    final var instantiator =
+        GeneratedInstantiator.of(
+            Value.class.getDeclaredConstructor(
+                int.class, int.class, int.class, int.class, int.class, int.class, int.class,
+                int.class, int.class));
+    assertInstanceOf(
+        MethodHandleInstantiator.class, instantiator, "Wide constructor must fall back");
+
+    final var value =
+        (Value) instantiator.instantiate(null, new Object[] {1, 1, 1, 1, 1, 1, 1, 1, 1});
+
+    assertEquals(9, value.second, "Fallback must still invoke the constructor");
+  }
+
+  @Test
+  void thrownExceptionMustBeWrappedLikeReflection() throws Exception {
+    final var instantiator = GeneratedInstantiator.of(Value.class.getDeclaredMethod("fail"));
+
+    final var exception =
+        assertThrows(
+            InvocationTargetException.class,
+            () -> instantiator.instantiate(null, new Object[0]),
+            "Exception thrown by the method must be wrapped");
+
+    final var cause =
+        assertInstanceOf(
+            IllegalStateException.class,
+            exception.getCause(),
+            "Exception thrown by the method must be preserved as a cause");
+    assertSame("Failure", cause.getMessage(), "Original exception must be preserved as is");
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.suppierk.inject.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class MethodHandleInstantiatorTest {
+  static class Value {
+    final String first;
+    final int second;
+
+    private Value(String first, int second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    private Value(String... parts) {
+      this(String.join("", parts), parts.length);
+    }
+
+    private String concat(String suffix, long count) {
+      return first + suffix + count;
+    }
+
+    private static String join(String prefix, String suffix) {
+      return prefix + suffix;
+    }
+
+    private static String fail() {
+      throw new IllegalStateException("Failure");
+    }
+  }
+
+  @Test
+  void constructorMustBeInvokedWithSpreadArguments() throws Exception {
+    final var instantiator =
+        MethodHandleInstantiator.of(Value.class.getDeclaredConstructor(String.class, int.class));
+
+    final var value = (Value) instantiator.instantiate(null, new Object[] {"Red", 1});
+
+    assertEquals("Red", value.first, "Constructor must receive reference arguments");
+    assertEquals(1, value.second, "Constructor must receive unboxed primitive arguments");
+  }
+
+  @Test
+  void varargsConstructorMustBeInvokedWithFixedArity() throws Exception {
+    final var instantiator =
+        MethodHandleInstantiator.of(Value.class.getDeclaredConstructor(String[].class));
+
+    final var value =
+        (Value) instantiator.instantiate(null, new Object[] {new String[] {"Red", "Blue"}});
+
+    assertEquals("RedBlue", value.first, "Varargs constructor must receive the array as is");
+    assertEquals(2, value.second, "Varargs constructor must receive the array as is");
+  }
+
+  @Test
+  void instanceMethodMustBeInvokedOnReceiver() throws Exception {
+    final var instantiator =
+        MethodHandleInstantiator.of(
+            Value.class.getDeclaredMethod("concat", String.class, long.class));
+
+    final var result = instantiator.instantiate(new Value("Red", 1), new Object[] {"Blue", 2L});
+
+    assertEquals("RedBlue2", result, "Method must be invoked on the receiver");
+  }
+
+  @Test
+  void staticMethodMustIgnoreReceiver() throws Exception {
+    final var instantiator =
+        MethodHandleInstantiator.of(
+            Value.class.getDeclaredMethod("join", String.class, String.class));
+
+    assertEquals(
+        "RedBlue",
+        instantiator.instantiate(null, new Object[] {"Red", "Blue"}),
+        "Static method must be invoked without the receiver");
+    assertEquals(
+        "RedBlue",
+        instantiator.instantiate(new Value("Green", 1), new Object[] {"Red", "Blue"}),
+        "Static method must ignore the receiver");
+  }
+
+  @Test
+  void thrownExceptionMustBeWrappedLikeReflection() throws Exception {
+    final var instantiator = MethodHandleInstantiator.of(Value.class.getDeclaredMethod("fail"));
+
+    final var exception =
+        assertThrows(
+            InvocationTargetException.class,
+            () -> instantiator.instantiate(null, new Object[0]),
+            "Exception thrown by the method must be wrapped");
+
+    final var cause =
+        assertInstanceOf(
+            IllegalStateException.class,
+            exception.getCause(),
+            "Exception thrown by the method must be preserved as a cause");
+    assertSame("Failure", cause.getMessage(), "Original exception must be preserved as is");
+  }
+}
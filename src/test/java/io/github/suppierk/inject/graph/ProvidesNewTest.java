@@ -12,6 +12,8 @@ import io.github.suppierk.inject.InjectorReference;
 import io.github.suppierk.inject.Key;
 import io.github.suppierk.inject.ParameterInformation;
 import io.github.suppierk.utils.ConsoleConstants;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -66,8 +68,21 @@ class ProvidesNewTest {
     EqualsVerifier.simple()
         .forClass(ProvidesNew.class)
         .withPrefabValues(Injector.class, redInjector, blueInjector)
+        .withPrefabValues(
+            MethodHandle[].class,
+            new MethodHandle[] {MethodHandles.constant(String.class, "Red")},
+            new MethodHandle[] {MethodHandles.constant(String.class, "Blue")})
         .withPrefabValues(Parameter.class, redParameter, blueParameter)
-        .withIgnoredFields("injectorReference")
+        .withIgnoredFields(
+            "injectorReference",
+            "instantiator",
+            "parameterNodes",
+            "fieldNodes",
+            "fieldSetters",
+            "parameterConstants",
+            "fieldConstants",
+            "classNode",
+            "classConstant")
         .verify();
   }
 
@@ -131,6 +146,31 @@ class ProvidesNewTest {
     assertNotSame(original, copy, "Copy must not be the same as original");
   }
 
+  @Test
+  void linkedNodeMustResolveParentsOnce() {
+    final var injector = Injector.injector().add(new Value("Red", 1L)).add("Blue").build();
+    final var injectorReference = new InjectorReference();
+    injectorReference.set(injector);
+
+    final var method = Value.method();
+    final var parameter = method.getParameters()[0];
+
+    final var node =
+        new ProvidesNew<>(
+            injectorReference,
+            new Key<>(Value.class, Set.of()),
+            method,
+            String.class,
+            List.of(new ParameterInformation(parameter, new Key<>(String.class, null), null)),
+            List.of());
+
+    final var unlinked = node.get();
+    node.link();
+
+    assertEquals("Blue", node.get(), "Linked node must resolve method arguments");
+    assertEquals(unlinked, node.get(), "Linking must not change resolved values");
+  }
+
   @Test
   void toStringMustBeNonNull() {
     final var injectorReference = new InjectorReference();
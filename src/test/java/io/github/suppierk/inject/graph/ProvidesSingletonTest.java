@@ -12,6 +12,8 @@ import io.github.suppierk.inject.InjectorReference;
 import io.github.suppierk.inject.Key;
 import io.github.suppierk.inject.ParameterInformation;
 import io.github.suppierk.utils.ConsoleConstants;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -66,8 +68,23 @@ class ProvidesSingletonTest {
     EqualsVerifier.simple()
         .forClass(ProvidesSingleton.class)
         .withPrefabValues(Injector.class, redInjector, blueInjector)
+        .withPrefabValues(
+            MethodHandle[].class,
+            new MethodHandle[] {MethodHandles.constant(String.class, "Red")},
+            new MethodHandle[] {MethodHandles.constant(String.class, "Blue")})
         .withPrefabValues(Parameter.class, redParameter, blueParameter)
-        .withIgnoredFields("injectorReference", "memoized", "onCloseConsumer")
+        .withIgnoredFields(
+            "injectorReference",
+            "instantiator",
+            "parameterNodes",
+            "fieldNodes",
+            "fieldSetters",
+            "parameterConstants",
+            "fieldConstants",
+            "classNode",
+            "classConstant",
+            "memoized",
+            "onCloseConsumer")
         .verify();
   }
 
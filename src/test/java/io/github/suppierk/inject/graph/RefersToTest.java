@@ -26,7 +26,7 @@ class RefersToTest {
     EqualsVerifier.simple()
         .forClass(RefersTo.class)
         .withPrefabValues(Injector.class, redInjector, blueInjector)
-        .withIgnoredFields("injectorReference")
+        .withIgnoredFields("injectorReference", "target")
         .verify();
   }
 
@@ -60,6 +60,20 @@ class RefersToTest {
         "When reference not found the exception must be thrown");
   }
 
+  @Test
+  void linkedReferenceMustResolveTarget() {
+    final var injector = Injector.injector().add("Red").build();
+    final var parentQualifier = new Key<>(String.class, Set.of());
+
+    final var injectorReference = new InjectorReference();
+    injectorReference.set(injector);
+
+    final var node = new RefersTo<>(injectorReference, parentQualifier);
+    node.link();
+
+    assertEquals("Red", node.get(), "Linked reference must return target value");
+  }
+
   @Test
   void copyTest() {
     final var injector = Injector.injector().build();
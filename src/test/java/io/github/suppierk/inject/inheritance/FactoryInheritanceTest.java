@@ -24,6 +24,7 @@
 package io.github.suppierk.inject.inheritance;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.suppierk.inject.Injector;
@@ -50,6 +51,33 @@ class FactoryInheritanceTest {
     }
   }
 
+  static class OverloadingFactory {
+    @Provides
+    @Named("overridden")
+    String overridden() {
+      return "parent";
+    }
+
+    @Provides
+    Integer number() {
+      return 1;
+    }
+  }
+
+  static class OverridingFactory extends OverloadingFactory {
+    @Override
+    @Provides
+    @Named("overridden")
+    String overridden() {
+      return "child";
+    }
+
+    @Provides
+    Long number(Integer number) {
+      return number + 1L;
+    }
+  }
+
   static class Consumer {
     private final String original;
     private final String additional;
@@ -80,4 +108,19 @@ class FactoryInheritanceTest {
         consumer.additional.startsWith("additional"),
         "Consumer must have additional dependency injected from child factory");
   }
+
+  @Test
+  void overriddenFactoryMethodsAreRegisteredOnceAndOverloadsAreKept() {
+    final var injector =
+        assertDoesNotThrow(
+            () -> Injector.injector().add(OverridingFactory.class).build(),
+            "Overridden factory methods must not be treated as duplicates");
+
+    assertEquals(
+        "child",
+        injector.get(injector.findOne(String.class).orElseThrow()),
+        "Overriding factory method must be used");
+    assertEquals(1, injector.get(Integer.class), "Overloaded parent method must be registered");
+    assertEquals(2L, injector.get(Long.class), "Overloaded child method must be registered");
+  }
 }
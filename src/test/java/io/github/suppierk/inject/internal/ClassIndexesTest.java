@@ -0,0 +1,36 @@
+package io.github.suppierk.inject.internal;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ClassIndexesTest {
+  static class Described {
+    Described(String value) {
+      // Not injectable
+    }
+
+    String method(String value) {
+      return value;
+    }
+  }
+
+  @AfterEach
+  void reloadIndexes() {
+    ClassIndexes.reload();
+  }
+
+  @Test
+  void classesWithoutIndexAreNotFound() throws ReflectiveOperationException {
+    assertNull(ClassIndexes.find(Described.class));
+    assertNull(ClassIndexes.invoker(Described.class.getDeclaredConstructor(String.class)));
+    assertNull(ClassIndexes.invoker(Described.class.getDeclaredMethod("method", String.class)));
+  }
+
+  @Test
+  void bootstrapClassesAreNotFound() throws ReflectiveOperationException {
+    assertNull(ClassIndexes.find(String.class));
+    assertNull(ClassIndexes.invoker(String.class.getDeclaredConstructor(String.class)));
+  }
+}
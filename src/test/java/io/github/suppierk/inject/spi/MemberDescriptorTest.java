@@ -0,0 +1,68 @@
+package io.github.suppierk.inject.spi;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class MemberDescriptorTest {
+  static class Described {
+    String field;
+
+    Described(String value) {
+      this.field = value;
+    }
+
+    String method(String value) {
+      return value;
+    }
+  }
+
+  @Test
+  void objectMethodsMustWorkAsExpected() {
+    EqualsVerifier.forClass(MemberDescriptor.class).withIgnoredFields("invoker").verify();
+    EqualsVerifier.forClass(ClassDescriptor.class).verify();
+  }
+
+  @Test
+  void nullArgumentsAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new MemberDescriptor(null, "name", List.of(), null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MemberDescriptor(Described.class, null, List.of(), null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MemberDescriptor(Described.class, "name", null, null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ClassDescriptor(null, null, List.of(), List.of()));
+  }
+
+  @Test
+  void descriptorsMatchDescribedMembers() throws ReflectiveOperationException {
+    final var constructor = MemberDescriptor.constructor(Described.class, null, String.class);
+    final var method = MemberDescriptor.method(Described.class, "method", null, String.class);
+    final var field = MemberDescriptor.field(Described.class, "field");
+
+    assertTrue(constructor.matches(Described.class.getDeclaredConstructor(String.class)));
+    assertTrue(method.matches(Described.class.getDeclaredMethod("method", String.class)));
+    assertTrue(field.matches(Described.class.getDeclaredField("field")));
+    assertFalse(method.matches(Described.class.getDeclaredConstructor(String.class)));
+    assertFalse(constructor.matches(Described.class.getDeclaredMethod("method", String.class)));
+  }
+
+  @Test
+  void indexDescribesOnlyListedClasses() {
+    final var descriptor = new ClassDescriptor(Described.class, null, List.of(), List.of());
+    final ClassIndex index = () -> List.of(descriptor);
+
+    assertSame(descriptor, index.describe(Described.class));
+    assertNull(index.describe(String.class));
+  }
+}
@@ -9,9 +9,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.inject.Provider;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
@@ -67,14 +69,99 @@ class MemoizedTest {
   }
 
   @Test
-  void lockTest() {
-    final var memoized = Memoized.memoizedSupplier(() -> 1L);
-
-    assertTrue(memoized.isLockReleased(), "Before value retrieval the lock must not be taken");
+  void evaluationTest() {
+    final var evaluating = new AtomicBoolean(false);
+    final var holder = new AtomicReference<Memoized<Long>>();
+    final var memoized =
+        Memoized.memoizedSupplier(
+            () -> {
+              evaluating.set(holder.get().isEvaluating());
+              return 1L;
+            });
+    holder.set(memoized);
+
+    assertFalse(memoized.isEvaluating(), "Before value retrieval there must be no evaluation");
 
     memoized.get();
 
-    assertTrue(memoized.isLockReleased(), "After value retrieval the lock must be released");
+    assertTrue(evaluating.get(), "During value retrieval there must be an ongoing evaluation");
+    assertFalse(memoized.isEvaluating(), "After value retrieval evaluation must be completed");
+  }
+
+  @Test
+  void failedEvaluationIsRetried() {
+    final var attempts = new AtomicInteger(0);
+    final var memoized =
+        Memoized.memoizedSupplier(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("First attempt fails");
+              }
+
+              return 1L;
+            });
+
+    assertThrows(IllegalStateException.class, memoized::get, "Failure must be propagated");
+    assertTrue(memoized.isEmpty(), "After failure memoized must be empty");
+    assertFalse(memoized.isEvaluating(), "After failure evaluation must be completed");
+
+    assertEquals(1L, memoized.get(), "After failure value must be evaluated again");
+    assertEquals(2, attempts.get(), "Provider must be invoked again after failure");
+  }
+
+  @Test
+  void recursiveEvaluationCausesError() {
+    final var holder = new AtomicReference<Memoized<Long>>();
+    final var memoized = Memoized.memoizedSupplier(() -> holder.get().get());
+    holder.set(memoized);
+
+    assertThrows(
+        IllegalStateException.class, memoized::get, "Recursive evaluation must throw an exception");
+    assertTrue(memoized.isEmpty(), "After recursive evaluation memoized must be empty");
+  }
+
+  @Test
+  void waitingThreadsReceiveEvaluatedValue() throws InterruptedException {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var memoized =
+        Memoized.memoizedSupplier(
+            () -> {
+              started.countDown();
+              awaitUninterruptibly(release);
+              return 1L;
+            });
+
+    final var results = new AtomicLong[8];
+    final var threads = new Thread[results.length];
+    final var owner = new Thread(memoized::get);
+    owner.start();
+    started.await();
+
+    for (int i = 0; i < threads.length; i++) {
+      final var result = new AtomicLong();
+      results[i] = result;
+      threads[i] = new Thread(() -> result.set(memoized.get()));
+      threads[i].start();
+    }
+
+    release.countDown();
+    owner.join();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    for (AtomicLong result : results) {
+      assertEquals(1L, result.get(), "Waiting threads must receive the evaluated value");
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   @Test
@@ -144,6 +231,18 @@ class MemoizedTest {
     assertFalse(orElseInvoked.get(), "After value was requested orElse clause must not be invoked");
   }
 
+  @Test
+  void orElseTest() {
+    final var memoized = Memoized.memoizedSupplier(() -> 1L);
+
+    assertEquals(
+        2L, memoized.orElse(2L), "Before value was requested orElse must return other value");
+
+    memoized.get();
+
+    assertEquals(1L, memoized.orElse(2L), "After value was requested orElse must return value");
+  }
+
   @Test
   void streamTest() {
     final var memoized = Memoized.memoizedSupplier(() -> 1L);